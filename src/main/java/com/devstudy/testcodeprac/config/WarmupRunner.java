@@ -0,0 +1,77 @@
+package com.devstudy.testcodeprac.config;
+
+import com.devstudy.testcodeprac.domain.User;
+import com.devstudy.testcodeprac.domain.enums.UserStatus;
+import com.devstudy.testcodeprac.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기동 직후 첫 요청이 느려지는 부분을 미리 실행해두는 워밍업
+ * (app.warmup.enabled=true 일 때만 동작)
+ *
+ * ApplicationRunner는 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌기 전에 실행되므로,
+ * 트래픽이 들어오기 전에 Hibernate 메타모델, 쿼리 SQL 변환, 커넥션 풀, Jackson 직렬화기가 준비된다.
+ * 큰 테이블에서도 비용이 작도록 인덱스를 타거나 결과가 없는 조건으로만 조회한다.
+ *
+ * AOT 빌드는 @ConditionalOnProperty 를 빌드 시점에 평가해 빈을 빼버리므로,
+ * 빈은 항상 등록하고 실행 여부는 기동 시점에 프로퍼티로 판단한다.
+ */
+@Slf4j
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+  private static final String WARMUP_EMAIL = "warmup@warmup.invalid";
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final UserRepository userRepository;
+  private final ObjectMapper objectMapper;
+  private final boolean enabled;
+
+  public WarmupRunner(EntityManagerFactory entityManagerFactory,
+                      UserRepository userRepository,
+                      ObjectMapper objectMapper,
+                      @Value("${app.warmup.enabled:false}") boolean enabled) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.userRepository = userRepository;
+    this.objectMapper = objectMapper;
+    this.enabled = enabled;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws JsonProcessingException {
+    if (!enabled) {
+      return;
+    }
+    long started = System.nanoTime();
+
+    // 1. Hibernate 메타모델
+    entityManagerFactory.getMetamodel().getEntities().forEach(entity -> entity.getAttributes().size());
+
+    // 2. UserRepository 쿼리 메서드 (SQL 변환 캐시와 커넥션 풀)
+    userRepository.findById(0L);
+    userRepository.findByEmail(WARMUP_EMAIL);
+    userRepository.existsByEmail(WARMUP_EMAIL);
+    userRepository.countByStatus(UserStatus.SUSPENDED);
+    userRepository.findChangedSince(LocalDateTime.now().plusYears(100), 0L, LocalDateTime.now(), Limit.of(1));
+
+    // 3. Jackson 직렬화기
+    User sample = new User("warmup", WARMUP_EMAIL, 20);
+    sample.setId(0L);
+    sample.setCreatedAt(LocalDateTime.now());
+    sample.setUpdatedAt(LocalDateTime.now());
+    objectMapper.writeValueAsBytes(List.of(sample));
+
+    log.info("워밍업 완료: {} ms", (System.nanoTime() - started) / 1_000_000);
+  }
+}
@@ -0,0 +1,20 @@
+package com.devstudy.testcodeprac.config.exception;
+
+import lombok.Getter;
+
+/**
+ * 도메인 예외의 공통 부모
+ *
+ * 잘못된 입력이나 없는 사용자 조회처럼 예상된 실패에만 쓰므로 스택 트레이스를 수집하지 않는다.
+ * (예외 생성 비용의 대부분이 fillInStackTrace 이고, 응답에도 로그에도 쓰지 않는다)
+ */
+@Getter
+public abstract class BusinessException extends RuntimeException {
+
+  private final ErrorCode errorCode;
+
+  protected BusinessException(ErrorCode errorCode, String message) {
+    super(message, null, false, false);
+    this.errorCode = errorCode;
+  }
+}
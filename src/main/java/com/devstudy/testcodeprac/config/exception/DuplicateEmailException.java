@@ -1,7 +1,7 @@
 package com.devstudy.testcodeprac.config.exception;
 
-public class DuplicateEmailException extends RuntimeException {
+public class DuplicateEmailException extends BusinessException {
   public DuplicateEmailException(String message) {
-    super(message);
+    super(ErrorCode.DUPLICATE_EMAIL, message);
   }
 }
@@ -0,0 +1,22 @@
+package com.devstudy.testcodeprac.config.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 도메인 예외의 오류 코드와 응답 상태
+ * 클라이언트는 메시지 대신 code 로 오류를 구분한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ErrorCode {
+  INVALID_INPUT("U001", HttpStatus.BAD_REQUEST),
+  INVALID_EMAIL("U002", HttpStatus.BAD_REQUEST),
+  DUPLICATE_EMAIL("U003", HttpStatus.CONFLICT),
+  USER_NOT_FOUND("U004", HttpStatus.NOT_FOUND),
+  INVALID_USER_STATUS("U005", HttpStatus.CONFLICT);
+
+  private final String code;
+  private final HttpStatus status;
+}
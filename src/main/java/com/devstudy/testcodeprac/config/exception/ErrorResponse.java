@@ -0,0 +1,15 @@
+package com.devstudy.testcodeprac.config.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 오류 응답 본문 ({"code":"U004","message":"..."})
+ */
+@Getter
+@RequiredArgsConstructor
+public class ErrorResponse {
+
+  private final String code;
+  private final String message;
+}
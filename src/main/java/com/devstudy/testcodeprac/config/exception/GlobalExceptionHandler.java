@@ -0,0 +1,20 @@
+package com.devstudy.testcodeprac.config.exception;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 도메인 예외를 오류 코드에 맞는 상태와 짧은 본문으로 바꾼다.
+ * 예상된 실패이므로 로그를 남기지 않는다.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+  @ExceptionHandler(BusinessException.class)
+  public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
+    ErrorCode errorCode = e.getErrorCode();
+    return ResponseEntity.status(errorCode.getStatus())
+        .body(new ErrorResponse(errorCode.getCode(), e.getMessage()));
+  }
+}
@@ -1,7 +1,7 @@
 package com.devstudy.testcodeprac.config.exception;
 
-public class InvalidEmailException extends RuntimeException {
+public class InvalidEmailException extends BusinessException {
   public InvalidEmailException(String message) {
-    super(message);
+    super(ErrorCode.INVALID_EMAIL, message);
   }
 }
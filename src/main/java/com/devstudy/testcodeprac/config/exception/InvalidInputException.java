@@ -1,7 +1,7 @@
 package com.devstudy.testcodeprac.config.exception;
 
-public class InvalidInputException extends RuntimeException {
+public class InvalidInputException extends BusinessException {
   public InvalidInputException(String message) {
-    super(message);
+    super(ErrorCode.INVALID_INPUT, message);
   }
 }
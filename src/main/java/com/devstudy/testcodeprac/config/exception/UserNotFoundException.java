@@ -1,7 +1,7 @@
 package com.devstudy.testcodeprac.config.exception;
 
-public class UserNotFoundException extends RuntimeException {
+public class UserNotFoundException extends BusinessException {
   public UserNotFoundException(String message) {
-    super(message);
+    super(ErrorCode.USER_NOT_FOUND, message);
   }
 }
@@ -0,0 +1,48 @@
+package com.devstudy.testcodeprac.config.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 집계 범위가 끝났을 때 SQL 예산 초과와 같은 모양의 반복 실행(N+1 의심)을 로그로 남긴다.
+ */
+@Slf4j
+@Component
+public class SqlStatementBudget {
+
+  private final int maxStatementsPerRequest;
+  private final int maxStatementsPerMethod;
+  private final int repeatedQueryThreshold;
+
+  public SqlStatementBudget(@Value("${sql.budget.max-statements-per-request:10}") int maxStatementsPerRequest,
+                            @Value("${sql.budget.max-statements-per-method:5}") int maxStatementsPerMethod,
+                            @Value("${sql.budget.repeated-query-threshold:3}") int repeatedQueryThreshold) {
+    this.maxStatementsPerRequest = maxStatementsPerRequest;
+    this.maxStatementsPerMethod = maxStatementsPerMethod;
+    this.repeatedQueryThreshold = repeatedQueryThreshold;
+  }
+
+  public void checkRequest(SqlStatementScope scope) {
+    check(scope, maxStatementsPerRequest);
+  }
+
+  public void checkMethod(SqlStatementScope scope) {
+    check(scope, maxStatementsPerMethod);
+  }
+
+  private void check(SqlStatementScope scope, int budget) {
+    if (scope.getStatementCount() > budget) {
+      log.warn("SQL 예산 초과: {} - {}건 실행 (예산 {}건), {} ms",
+          scope.getName(), scope.getStatementCount(), budget, scope.getElapsedMillis());
+    } else if (log.isDebugEnabled()) {
+      log.debug("SQL 실행: {} - {}건, {} ms", scope.getName(), scope.getStatementCount(), scope.getElapsedMillis());
+    }
+
+    Map<String, Integer> repeated = scope.getRepeatedShapes(repeatedQueryThreshold);
+    repeated.forEach((shape, count) ->
+        log.warn("반복 쿼리 감지 (N+1 의심): {} - {}회 실행: {}", scope.getName(), count, shape));
+  }
+}
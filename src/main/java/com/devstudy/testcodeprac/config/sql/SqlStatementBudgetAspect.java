@@ -0,0 +1,33 @@
+package com.devstudy.testcodeprac.config.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서비스 메서드 단위로 실행된 SQL 을 집계한다.
+ * 트랜잭션 인터셉터보다 바깥에서 돌아야 커밋 시점에 flush 되는 UPDATE/INSERT 까지 집계된다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SqlStatementBudgetAspect {
+
+  private final SqlStatementBudget budget;
+
+  @Around("execution(public * com.devstudy.testcodeprac.service..*Service.*(..))")
+  public Object track(ProceedingJoinPoint joinPoint) throws Throwable {
+    SqlStatementScope scope = SqlStatementTracker.open(joinPoint.getSignature().toShortString());
+    try {
+      return joinPoint.proceed();
+    } finally {
+      scope.close();
+      budget.checkMethod(scope);
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.devstudy.testcodeprac.config.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 단위로 실행된 SQL 을 집계한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+  private final SqlStatementBudget budget;
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    SqlStatementScope scope = SqlStatementTracker.open(request.getMethod() + " " + request.getRequestURI());
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      scope.close();
+      budget.checkRequest(scope);
+    }
+  }
+}
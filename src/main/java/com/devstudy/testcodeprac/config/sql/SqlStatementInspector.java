@@ -0,0 +1,16 @@
+package com.devstudy.testcodeprac.config.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하려는 모든 SQL 을 현재 스레드의 집계 범위에 기록한다.
+ * (spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록)
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+  @Override
+  public String inspect(String sql) {
+    SqlStatementTracker.record(sql);
+    return sql;
+  }
+}
@@ -0,0 +1,75 @@
+package com.devstudy.testcodeprac.config.sql;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 하나의 집계 범위에서 실행된 SQL 수, 모양별 실행 횟수, 경과 시간
+ */
+public class SqlStatementScope implements AutoCloseable {
+
+  private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+  private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+  private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private final String name;
+  private final long startedNanos = System.nanoTime();
+  private final Map<String, Integer> shapeCounts = new LinkedHashMap<>();
+  private int statementCount;
+  private long elapsedNanos = -1;
+
+  SqlStatementScope(String name) {
+    this.name = name;
+  }
+
+  /**
+   * 리터럴과 IN 목록 길이를 지운 SQL 모양 (같은 모양이 반복되면 N+1 의심)
+   */
+  static String shapeOf(String sql) {
+    String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+    shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+    shape = IN_LIST.matcher(shape).replaceAll("(?...)");
+    return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+  }
+
+  void record(String shape) {
+    statementCount++;
+    shapeCounts.merge(shape, 1, Integer::sum);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getStatementCount() {
+    return statementCount;
+  }
+
+  public long getElapsedMillis() {
+    long nanos = elapsedNanos >= 0 ? elapsedNanos : System.nanoTime() - startedNanos;
+    return nanos / 1_000_000;
+  }
+
+  /**
+   * @return threshold 번 이상 실행된 SQL 모양과 실행 횟수
+   */
+  public Map<String, Integer> getRepeatedShapes(int threshold) {
+    Map<String, Integer> repeated = new LinkedHashMap<>();
+    shapeCounts.forEach((shape, count) -> {
+      if (count >= threshold) {
+        repeated.put(shape, count);
+      }
+    });
+    return repeated;
+  }
+
+  @Override
+  public void close() {
+    if (elapsedNanos < 0) {
+      elapsedNanos = System.nanoTime() - startedNanos;
+      SqlStatementTracker.close(this);
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.devstudy.testcodeprac.config.sql;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 스레드별로 열려 있는 SQL 집계 범위(요청, 서비스 메서드, 테스트)를 관리한다.
+ * 범위는 중첩될 수 있으며, 실행된 SQL 은 열려 있는 모든 범위에 집계된다.
+ */
+public final class SqlStatementTracker {
+
+  private static final ThreadLocal<Deque<SqlStatementScope>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+  private SqlStatementTracker() {
+  }
+
+  public static SqlStatementScope open(String name) {
+    SqlStatementScope scope = new SqlStatementScope(name);
+    SCOPES.get().push(scope);
+    return scope;
+  }
+
+  static void record(String sql) {
+    Deque<SqlStatementScope> scopes = SCOPES.get();
+    if (scopes.isEmpty()) {
+      return;
+    }
+    String shape = SqlStatementScope.shapeOf(sql);
+    for (SqlStatementScope scope : scopes) {
+      scope.record(shape);
+    }
+  }
+
+  static void close(SqlStatementScope scope) {
+    Deque<SqlStatementScope> scopes = SCOPES.get();
+    scopes.remove(scope);
+    if (scopes.isEmpty()) {
+      SCOPES.remove();
+    }
+  }
+}
@@ -1,13 +1,26 @@
 package com.devstudy.testcodeprac.controller;
 
 import com.devstudy.testcodeprac.domain.User;
+import com.devstudy.testcodeprac.dto.UserBatchLookupRequest;
+import com.devstudy.testcodeprac.dto.UserBatchLookupResponse;
+import com.devstudy.testcodeprac.dto.UserChangesResponse;
+import com.devstudy.testcodeprac.dto.UserQueryPage;
+import com.devstudy.testcodeprac.dto.UserQueryRequest;
+import com.devstudy.testcodeprac.event.UserChangeStream;
+import com.devstudy.testcodeprac.service.UserIngestionPipeline;
+import com.devstudy.testcodeprac.service.UserQueryService;
 import com.devstudy.testcodeprac.service.UserService;
+import com.devstudy.testcodeprac.service.UserSyncService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/users")
@@ -15,6 +28,10 @@ import java.util.List;
 public class UserController {
 
   private final UserService userService;
+  private final UserSyncService userSyncService;
+  private final UserQueryService userQueryService;
+  private final UserIngestionPipeline userIngestionPipeline;
+  private final UserChangeStream userChangeStream;
 
   @PostMapping
   public ResponseEntity<User> createUser(@RequestParam String name,
@@ -24,6 +41,14 @@ public class UserController {
     return ResponseEntity.status(HttpStatus.CREATED).body(user);
   }
 
+  @PostMapping("/async")
+  public CompletableFuture<ResponseEntity<User>> createUserAsync(@RequestParam String name,
+                                                                 @RequestParam String email,
+                                                                 @RequestParam Integer age) {
+    return userIngestionPipeline.submit(name, email, age)
+        .thenApply(user -> ResponseEntity.status(HttpStatus.CREATED).body(user));
+  }
+
   @GetMapping("/{id}")
   public ResponseEntity<User> getUserById(@PathVariable Long id) {
     User user = userService.getUserById(id);
@@ -36,6 +61,12 @@ public class UserController {
     return ResponseEntity.ok(user);
   }
 
+  @PostMapping("/batch")
+  public ResponseEntity<UserBatchLookupResponse> lookupUsers(@RequestBody UserBatchLookupRequest request) {
+    UserBatchLookupResponse response = userService.lookupUsers(request.getIds(), request.getEmails());
+    return ResponseEntity.ok(response);
+  }
+
   @GetMapping
   public ResponseEntity<List<User>> getAllActiveUsers() {
     List<User> users = userService.getAllActiveUsers();
@@ -48,6 +79,12 @@ public class UserController {
     return ResponseEntity.ok(users);
   }
 
+  @GetMapping("/query")
+  public ResponseEntity<UserQueryPage> queryUsers(@ModelAttribute UserQueryRequest request) {
+    UserQueryPage page = userQueryService.query(request);
+    return ResponseEntity.ok(page);
+  }
+
   @PutMapping("/{id}")
   public ResponseEntity<User> updateUser(@PathVariable Long id,
                                        @RequestParam(required = false) String name,
@@ -68,6 +105,12 @@ public class UserController {
     return ResponseEntity.noContent().build();
   }
 
+  @PutMapping("/{id}/suspend")
+  public ResponseEntity<User> suspendUser(@PathVariable Long id, @RequestParam Long minutes) {
+    User user = userService.suspendUser(id, minutes == null ? null : Duration.ofMinutes(minutes));
+    return ResponseEntity.ok(user);
+  }
+
   @DeleteMapping("/{id}")
   public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
     userService.deleteUser(id);
@@ -85,4 +128,17 @@ public class UserController {
     List<User> users = userService.getAdultUsers();
     return ResponseEntity.ok(users);
   }
-}
+
+  @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamUserChanges(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                                      @RequestParam(required = false) Long since) {
+    return userChangeStream.subscribe(lastEventId != null ? lastEventId : since);
+  }
+
+  @GetMapping("/changes")
+  public ResponseEntity<UserChangesResponse> getUserChanges(@RequestParam(required = false) String since,
+                                                            @RequestParam(required = false) Integer size) {
+    UserChangesResponse changes = userSyncService.getChangesSince(since, size);
+    return ResponseEntity.ok(changes);
+  }
+}
\ No newline at end of file
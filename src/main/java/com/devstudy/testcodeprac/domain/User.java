@@ -7,11 +7,17 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_updated_at_id", columnList = "updated_at, id"),
+    @Index(name = "idx_users_status_suspended_until", columnList = "status, suspended_until"),
+    @Index(name = "idx_users_name", columnList = "name"),
+    @Index(name = "idx_users_created_at", columnList = "created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -38,6 +44,11 @@ public class User {
   @CreationTimestamp
   private LocalDateTime createdAt;
 
+  @UpdateTimestamp
+  private LocalDateTime updatedAt;  // 생성/수정 시마다 갱신 (변경분 동기화 커서로 사용)
+
+  private LocalDateTime suspendedUntil;  // SUSPENDED 상태가 자동으로 풀리는 시각
+
   public User(String name, String email, Integer age) {
     this.name = name;
     this.email = email;
@@ -50,9 +61,16 @@ public class User {
 
   public void activate() {
     this.status = UserStatus.ACTIVE;
+    this.suspendedUntil = null;
+  }
+
+  public void suspend(LocalDateTime until) {
+    this.status = UserStatus.SUSPENDED;
+    this.suspendedUntil = until;
   }
 
   public void deactivate() {
     this.status = UserStatus.INACTIVE;
+    this.suspendedUntil = null;
   }
 }
\ No newline at end of file
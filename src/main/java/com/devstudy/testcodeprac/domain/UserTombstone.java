@@ -0,0 +1,39 @@
+package com.devstudy.testcodeprac.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 사용자의 흔적
+ * 변경분 동기화(/api/users/changes)에서 삭제를 전달하기 위해 남겨둔다.
+ */
+@Entity
+@Table(name = "user_tombstones", indexes = {
+    @Index(name = "idx_user_tombstones_deleted_at_user_id", columnList = "deleted_at, user_id")
+})
+@Getter
+@NoArgsConstructor
+public class UserTombstone {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, unique = true)
+  private Long userId;
+
+  @Column(nullable = false)
+  private String email;
+
+  @CreationTimestamp
+  private LocalDateTime deletedAt;
+
+  public UserTombstone(Long userId, String email) {
+    this.userId = userId;
+    this.email = email;
+  }
+}
@@ -0,0 +1,5 @@
+package com.devstudy.testcodeprac.domain.enums;
+
+public enum UserChangeType {
+  CREATED, UPDATED, DEACTIVATED, REACTIVATED, SUSPENDED, DELETED
+}
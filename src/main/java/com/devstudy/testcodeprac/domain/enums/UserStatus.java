@@ -2,4 +2,4 @@ package com.devstudy.testcodeprac.domain.enums;
 
 public enum UserStatus {
   ACTIVE, INACTIVE, SUSPENDED
-}
\ No newline at end of file
+}
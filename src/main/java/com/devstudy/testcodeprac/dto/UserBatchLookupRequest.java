@@ -0,0 +1,17 @@
+package com.devstudy.testcodeprac.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserBatchLookupRequest {
+
+  private List<Long> ids = new ArrayList<>();
+  private List<String> emails = new ArrayList<>();
+}
@@ -0,0 +1,17 @@
+package com.devstudy.testcodeprac.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 조회 결과 (각 목록은 요청한 순서를 그대로 따른다)
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserBatchLookupResponse {
+
+  private final List<UserLookupResult> ids;
+  private final List<UserLookupResult> emails;
+}
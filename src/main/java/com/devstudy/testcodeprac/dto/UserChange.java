@@ -0,0 +1,30 @@
+package com.devstudy.testcodeprac.dto;
+
+import com.devstudy.testcodeprac.domain.User;
+import com.devstudy.testcodeprac.domain.UserTombstone;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경분 동기화 항목
+ * 삭제된 사용자는 user 없이 deleted=true 인 톰스톤으로 전달된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserChange {
+
+  private final Long id;
+  private final boolean deleted;
+  private final LocalDateTime changedAt;
+  private final User user;
+
+  public static UserChange upsert(User user) {
+    return new UserChange(user.getId(), false, user.getUpdatedAt(), user);
+  }
+
+  public static UserChange tombstone(UserTombstone tombstone) {
+    return new UserChange(tombstone.getUserId(), true, tombstone.getDeletedAt(), null);
+  }
+}
@@ -0,0 +1,15 @@
+package com.devstudy.testcodeprac.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class UserChangesResponse {
+
+  private final List<UserChange> changes;
+  private final String nextCursor;  // 다음 요청의 since 값
+  private final boolean hasMore;
+}
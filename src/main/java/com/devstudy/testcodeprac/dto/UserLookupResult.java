@@ -0,0 +1,22 @@
+package com.devstudy.testcodeprac.dto;
+
+import com.devstudy.testcodeprac.domain.User;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일괄 조회 항목 하나의 결과
+ * 찾지 못한 키는 예외 대신 found=false 로 표시된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserLookupResult {
+
+  private final Object key;  // 요청한 ID 또는 이메일
+  private final boolean found;
+  private final User user;
+
+  public static UserLookupResult of(Object key, User user) {
+    return new UserLookupResult(key, user != null, user);
+  }
+}
@@ -0,0 +1,16 @@
+package com.devstudy.testcodeprac.dto;
+
+import com.devstudy.testcodeprac.domain.User;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class UserQueryPage {
+
+  private final List<User> users;
+  private final String nextCursor;  // 다음 페이지가 없으면 null
+  private final boolean hasMore;
+}
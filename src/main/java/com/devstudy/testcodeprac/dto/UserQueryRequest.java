@@ -0,0 +1,38 @@
+package com.devstudy.testcodeprac.dto;
+
+import com.devstudy.testcodeprac.domain.enums.UserStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 조건 조회 요청 (모든 조건은 선택, 주어진 조건은 AND 로 묶인다)
+ *
+ * GET /api/users/query?status=ACTIVE&status=SUSPENDED&minAge=18&namePrefix=홍&sort=createdAt&direction=desc&size=50
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserQueryRequest {
+
+  private List<UserStatus> status;
+  private Integer minAge;
+  private Integer maxAge;
+  private String namePrefix;
+  private String nameContains;
+
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+  private LocalDateTime createdFrom;  // 포함
+
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+  private LocalDateTime createdTo;    // 미포함
+
+  private String sort = "id";         // id, name, age, createdAt
+  private String direction = "asc";   // asc, desc
+  private Integer size;
+  private String cursor;              // 이전 응답의 nextCursor
+}
@@ -0,0 +1,18 @@
+package com.devstudy.testcodeprac.event;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커밋된 변경 이벤트에 단조 증가하는 시퀀스 번호를 붙인 것
+ */
+@Getter
+@RequiredArgsConstructor
+public class SequencedUserChange {
+
+  private final long sequence;
+
+  @JsonUnwrapped
+  private final UserChangedEvent change;
+}
@@ -0,0 +1,246 @@
+package com.devstudy.testcodeprac.event;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커밋된 사용자 변경 이벤트를 SSE 구독자에게 전달하는 스트림
+ *
+ * - 이벤트마다 단조 증가하는 시퀀스 번호를 붙이고, 최근 이벤트는 링 버퍼에 보관한다.
+ * - 구독 시 마지막으로 받은 시퀀스를 넘기면 링 버퍼에서 이어서 재생한다.
+ * - 구독자별 큐는 크기가 제한되어 있고 전송은 별도 스레드에서 하므로,
+ *   느린 구독자가 쓰기 트랜잭션을 막지 않는다. 큐가 넘치면 연결을 끊고 재접속(재생)에 맡긴다.
+ * - 전송 스레드는 모자라면 더 만들므로 전송이 멈춘 구독자가 다른 구독자의 전송을 막지 않고,
+ *   한 번의 전송이 send-timeout 을 넘기면 그 구독자의 연결을 오류로 끊어 스레드를 돌려받는다.
+ *
+ * 시퀀스는 프로세스 단위이므로 재시작 후에는 처음부터 다시 시작한다.
+ * 재생할 수 없는 위치에서 구독하면 "reset" 이벤트를 먼저 보내 전체 재동기화를 요청한다.
+ */
+@Slf4j
+@Component
+public class UserChangeStream {
+
+  static final String RESET_EVENT = "reset";
+
+  private final SequencedUserChange[] ring;
+  private final int subscriberQueueSize;
+  private final long emitterTimeoutMillis;
+  private final long sendTimeoutNanos;
+  private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+  private final ThreadPoolExecutor deliveryExecutor;
+  private final ScheduledExecutorService sendWatchdog;
+
+  private long lastSequence = 0;
+
+  public UserChangeStream(@Value("${user.events.replay-buffer-size:1024}") int replayBufferSize,
+                          @Value("${user.events.subscriber-queue-size:256}") int subscriberQueueSize,
+                          @Value("${user.events.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+                          @Value("${user.events.delivery-threads:2}") int deliveryThreads,
+                          @Value("${user.events.send-timeout-ms:5000}") long sendTimeoutMillis) {
+    this.ring = new SequencedUserChange[replayBufferSize];
+    this.subscriberQueueSize = subscriberQueueSize;
+    this.emitterTimeoutMillis = emitterTimeoutMillis;
+    this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+    // delivery-threads 개는 항상 유지하고, 모두 전송 중이면 스레드를 더 만든다 (남는 스레드는 60초 뒤 정리)
+    this.deliveryExecutor = new ThreadPoolExecutor(deliveryThreads, Integer.MAX_VALUE, 60, TimeUnit.SECONDS,
+        new SynchronousQueue<>(), r -> {
+      Thread thread = new Thread(r, "user-change-stream");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.sendWatchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "user-change-stream-watchdog");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long checkIntervalMillis = Math.max(1, sendTimeoutMillis / 2);
+    sendWatchdog.scheduleWithFixedDelay(this::closeStalledSubscribers,
+        checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserChanged(UserChangedEvent event) {
+    // 시퀀스 발급과 큐 적재를 같은 락 안에서 해야 동시에 커밋된 이벤트의 순서가 뒤바뀌지 않고,
+    // 구독 시 재생한 이벤트를 다시 받는 일도 없다. (offer 는 기다리지 않으므로 쓰기 스레드를 막지 않는다)
+    synchronized (this) {
+      SequencedUserChange change = new SequencedUserChange(++lastSequence, event);
+      ring[(int) (change.getSequence() % ring.length)] = change;
+      for (Subscriber subscriber : subscribers) {
+        subscriber.offer(change);
+      }
+    }
+  }
+
+  /**
+   * 새 구독을 연다.
+   *
+   * @param since 마지막으로 받은 시퀀스 (null이면 지금 이후의 이벤트만 받는다)
+   */
+  public SseEmitter subscribe(Long since) {
+    return subscribe(since, new SseEmitter(emitterTimeoutMillis));
+  }
+
+  SseEmitter subscribe(Long since, SseEmitter emitter) {
+    Subscriber subscriber;
+
+    // 재생 목록 수집과 구독자 등록을 같은 락 안에서 해야 그 사이의 이벤트가 빠지지 않는다
+    synchronized (this) {
+      List<SequencedUserChange> replay = new ArrayList<>();
+      boolean reset = false;
+      if (since != null) {
+        long oldest = Math.max(1, lastSequence - ring.length + 1);
+        if (since > lastSequence || since + 1 < oldest) {
+          reset = true;
+        } else {
+          for (long seq = since + 1; seq <= lastSequence; seq++) {
+            replay.add(ring[(int) (seq % ring.length)]);
+          }
+        }
+      }
+      subscriber = new Subscriber(emitter, replay.size() + subscriberQueueSize, reset);
+      replay.forEach(subscriber.queue::add);
+      subscribers.add(subscriber);
+    }
+
+    emitter.onCompletion(() -> subscribers.remove(subscriber));
+    emitter.onTimeout(() -> subscribers.remove(subscriber));
+    emitter.onError(e -> subscribers.remove(subscriber));
+    subscriber.schedule();
+    return emitter;
+  }
+
+  public synchronized long getLastSequence() {
+    return lastSequence;
+  }
+
+  private void closeStalledSubscribers() {
+    long now = System.nanoTime();
+    for (Subscriber subscriber : subscribers) {
+      if (subscriber.isStalled(now)) {
+        log.warn("변경 이벤트 전송이 {} ms 안에 끝나지 않아 연결을 종료합니다.",
+            TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+        subscriber.closeWithError(new TimeoutException("SSE 전송 시간 초과"));
+      }
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    sendWatchdog.shutdownNow();
+    subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    subscribers.clear();
+    deliveryExecutor.shutdownNow();
+  }
+
+  private class Subscriber {
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<SequencedUserChange> queue;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile boolean pendingReset;
+    private volatile boolean overflowed;
+    // 진행 중인 send 의 시작 시각 (0 이면 전송 중이 아님)
+    private volatile long sendStartedAt;
+
+    Subscriber(SseEmitter emitter, int capacity, boolean pendingReset) {
+      this.emitter = emitter;
+      this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+      this.pendingReset = pendingReset;
+    }
+
+    void offer(SequencedUserChange change) {
+      if (!queue.offer(change)) {
+        overflowed = true;
+      }
+      schedule();
+    }
+
+    void schedule() {
+      if (scheduled.compareAndSet(false, true)) {
+        deliveryExecutor.execute(this::drain);
+      }
+    }
+
+    boolean isStalled(long now) {
+      long started = sendStartedAt;
+      return started != 0 && now - started > sendTimeoutNanos;
+    }
+
+    private void drain() {
+      try {
+        if (pendingReset) {
+          send(SseEmitter.event().name(RESET_EVENT).data(getLastSequence()));
+          pendingReset = false;
+        }
+        SequencedUserChange change;
+        while (!overflowed && !closed.get() && (change = queue.poll()) != null) {
+          send(SseEmitter.event()
+              .id(String.valueOf(change.getSequence()))
+              .name(change.getChange().getType().name())
+              .data(change));
+        }
+        if (overflowed) {
+          log.warn("변경 이벤트 구독자 큐가 가득 차 연결을 종료합니다.");
+          close();
+          return;
+        }
+      } catch (IOException | IllegalStateException e) {
+        close();
+        return;
+      }
+      if (closed.get()) {
+        return;
+      }
+
+      scheduled.set(false);
+      // 플래그를 내리는 사이에 들어온 이벤트가 있으면 다시 예약한다
+      if (!queue.isEmpty() || overflowed) {
+        schedule();
+      }
+    }
+
+    private void send(SseEmitter.SseEventBuilder event) throws IOException {
+      sendStartedAt = System.nanoTime();
+      try {
+        emitter.send(event);
+      } finally {
+        sendStartedAt = 0;
+      }
+    }
+
+    private void close() {
+      if (closed.compareAndSet(false, true)) {
+        subscribers.remove(this);
+        queue.clear();
+        emitter.complete();
+      }
+    }
+
+    void closeWithError(Throwable cause) {
+      if (closed.compareAndSet(false, true)) {
+        subscribers.remove(this);
+        queue.clear();
+        emitter.completeWithError(cause);
+      }
+    }
+  }
+}
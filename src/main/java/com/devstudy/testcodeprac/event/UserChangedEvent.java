@@ -0,0 +1,32 @@
+package com.devstudy.testcodeprac.event;
+
+import com.devstudy.testcodeprac.domain.User;
+import com.devstudy.testcodeprac.domain.enums.UserChangeType;
+import com.devstudy.testcodeprac.domain.enums.UserStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 변경 시점의 스냅샷
+ * (UserService가 트랜잭션 안에서 발행하고, 커밋 이후에 스트림으로 전달된다)
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserChangedEvent {
+
+  private final UserChangeType type;
+  private final Long userId;
+  private final String name;
+  private final String email;
+  private final Integer age;
+  private final UserStatus status;
+  private final LocalDateTime suspendedUntil;
+  private final LocalDateTime occurredAt;
+
+  public static UserChangedEvent of(UserChangeType type, User user) {
+    return new UserChangedEvent(type, user.getId(), user.getName(), user.getEmail(),
+        user.getAge(), user.getStatus(), user.getSuspendedUntil(), LocalDateTime.now());
+  }
+}
@@ -0,0 +1,13 @@
+package com.devstudy.testcodeprac.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정지 만료 예정 (ID와 만료 시각만 읽는 프로젝션)
+ */
+public interface SuspensionExpiry {
+
+  Long getId();
+
+  LocalDateTime getSuspendedUntil();
+}
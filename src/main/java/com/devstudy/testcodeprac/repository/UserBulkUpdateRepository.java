@@ -0,0 +1,23 @@
+package com.devstudy.testcodeprac.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JPQL 벌크 UPDATE 로는 JDBC 배치가 되지 않는 일괄 수정 (UserRepository 에 합쳐진다)
+ */
+public interface UserBulkUpdateRepository {
+
+  /**
+   * 이름/나이만 바꾼다. (null 이면 기존 값 유지)
+   * 엔티티를 읽어 고치지 않으므로 그사이 커밋된 상태 변경을 덮어쓰지 않고,
+   * 모든 행을 하나의 JDBC 배치로 보낸다.
+   * @UpdateTimestamp 를 거치지 않으므로 변경 시각을 직접 넘긴다.
+   *
+   * @return 사용자별 변경된 행 수 (드라이버가 알려주지 않으면 Statement.SUCCESS_NO_INFO)
+   */
+  int[] updateNamesAndAges(List<NameAgeUpdate> updates, LocalDateTime updatedAt);
+
+  record NameAgeUpdate(Long id, String name, Integer age) {
+  }
+}
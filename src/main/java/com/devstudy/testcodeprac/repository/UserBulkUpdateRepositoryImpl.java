@@ -0,0 +1,27 @@
+package com.devstudy.testcodeprac.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+class UserBulkUpdateRepositoryImpl implements UserBulkUpdateRepository {
+
+  private static final String UPDATE_NAME_AND_AGE =
+      "UPDATE users SET name = COALESCE(?, name), age = COALESCE(?, age), updated_at = ? WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public int[] updateNamesAndAges(List<NameAgeUpdate> updates, LocalDateTime updatedAt) {
+    if (updates.isEmpty()) {
+      return new int[0];
+    }
+    List<Object[]> rows = updates.stream()
+        .map(update -> new Object[]{update.name(), update.age(), updatedAt, update.id()})
+        .toList();
+    return jdbcTemplate.batchUpdate(UPDATE_NAME_AND_AGE, rows);
+  }
+}
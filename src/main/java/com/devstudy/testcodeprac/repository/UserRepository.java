@@ -2,16 +2,20 @@ package com.devstudy.testcodeprac.repository;
 
 import com.devstudy.testcodeprac.domain.User;
 import com.devstudy.testcodeprac.domain.enums.UserStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserBulkUpdateRepository {
 
   Optional<User> findByEmail(String email);
 
@@ -24,7 +28,43 @@ public interface UserRepository extends JpaRepository<User, Long> {
   @Query("SELECT u FROM User u WHERE u.age >= :minAge AND u.status = :status")
   List<User> findAdultActiveUsers(@Param("minAge") Integer minAge, @Param("status") UserStatus status);
 
+  List<User> findByEmailIn(Collection<String> emails);
+
+  @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+  List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
   boolean existsByEmail(String email);
 
   long countByStatus(UserStatus status);
+
+  /**
+   * (updatedAt, id) 커서 이후부터 until 까지 변경된 사용자
+   * until 은 아직 커밋되지 않았을 수 있는 최근 변경을 제외하기 위한 상한이다.
+   */
+  @Query("SELECT u FROM User u WHERE (u.updatedAt > :updatedAt "
+      + "OR (u.updatedAt = :updatedAt AND u.id > :id)) AND u.updatedAt <= :until ORDER BY u.updatedAt, u.id")
+  List<User> findChangedSince(@Param("updatedAt") LocalDateTime updatedAt,
+                              @Param("id") Long id,
+                              @Param("until") LocalDateTime until,
+                              Limit limit);
+
+  /**
+   * updated_at 컬럼이 생기기 전부터 있던 행을 변경분 동기화 대상에 넣는다.
+   */
+  @Modifying
+  @Query("UPDATE User u SET u.updatedAt = :now WHERE u.updatedAt IS NULL")
+  int backfillUpdatedAt(@Param("now") LocalDateTime now);
+
+  /**
+   * (status, suspended_until) 인덱스 범위 조회 - (after, afterId) 이후부터 until 전까지 끝나는 정지
+   */
+  @Query("SELECT u.id AS id, u.suspendedUntil AS suspendedUntil FROM User u "
+      + "WHERE u.status = :status AND u.suspendedUntil < :until "
+      + "AND (u.suspendedUntil > :after OR (u.suspendedUntil = :after AND u.id > :afterId)) "
+      + "ORDER BY u.suspendedUntil, u.id")
+  List<SuspensionExpiry> findSuspensionsEndingBefore(@Param("status") UserStatus status,
+                                                     @Param("until") LocalDateTime until,
+                                                     @Param("after") LocalDateTime after,
+                                                     @Param("afterId") Long afterId,
+                                                     Limit limit);
 }
\ No newline at end of file
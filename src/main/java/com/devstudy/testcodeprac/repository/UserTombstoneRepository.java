@@ -0,0 +1,23 @@
+package com.devstudy.testcodeprac.repository;
+
+import com.devstudy.testcodeprac.domain.UserTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface UserTombstoneRepository extends JpaRepository<UserTombstone, Long> {
+
+  @Query("SELECT t FROM UserTombstone t WHERE (t.deletedAt > :deletedAt "
+      + "OR (t.deletedAt = :deletedAt AND t.userId > :userId)) AND t.deletedAt <= :until "
+      + "ORDER BY t.deletedAt, t.userId")
+  List<UserTombstone> findDeletedSince(@Param("deletedAt") LocalDateTime deletedAt,
+                                       @Param("userId") Long userId,
+                                       @Param("until") LocalDateTime until,
+                                       Limit limit);
+}
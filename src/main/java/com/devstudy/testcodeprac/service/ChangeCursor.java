@@ -0,0 +1,43 @@
+package com.devstudy.testcodeprac.service;
+
+import com.devstudy.testcodeprac.config.exception.InvalidInputException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 변경분 동기화 위치 (변경 시각, 사용자 ID)
+ * 클라이언트에게는 불투명한 문자열로만 노출한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChangeCursor {
+
+  public static final ChangeCursor START = new ChangeCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+  private final LocalDateTime changedAt;
+  private final Long userId;
+
+  public String encode() {
+    String raw = changedAt + "|" + userId;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static ChangeCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return START;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.lastIndexOf('|');
+      return new ChangeCursor(LocalDateTime.parse(raw.substring(0, separator)),
+          Long.parseLong(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new InvalidInputException("올바르지 않은 커서입니다: " + cursor);
+    }
+  }
+}
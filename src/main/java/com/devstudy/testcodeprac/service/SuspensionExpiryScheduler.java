@@ -0,0 +1,178 @@
+package com.devstudy.testcodeprac.service;
+
+import com.devstudy.testcodeprac.domain.enums.UserChangeType;
+import com.devstudy.testcodeprac.domain.enums.UserStatus;
+import com.devstudy.testcodeprac.event.UserChangedEvent;
+import com.devstudy.testcodeprac.repository.SuspensionExpiry;
+import com.devstudy.testcodeprac.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기간 정지(SUSPENDED) 자동 해제 엔진
+ *
+ * 두 단계로 나눠서 테이블 전체를 훑지 않는다.
+ * - 가까운 구간(horizon)의 만료는 메모리의 타이머 휠에 올려두고 tick 마다 만료된 것만 꺼낸다.
+ * - 그보다 먼 만료는 DB 의 (status, suspended_until) 인덱스에 두고, 구간이 다가오면 범위 조회로 휠에 올린다.
+ * 재시작하면 처음 구간을 다시 불러오므로 (지난 만료 포함) 별도 저장 없이 이어서 동작한다.
+ *
+ * 실제 해제는 UserService.expireSuspensions 가 묶음 단위로 하며, DB 의 상태와 만료 시각을 다시 확인하므로
+ * 휠에 중복되거나 오래된 항목이 남아 있어도 안전하다.
+ */
+@Slf4j
+@Component
+public class SuspensionExpiryScheduler implements SmartLifecycle {
+
+  private static final int LOAD_PAGE_SIZE = 1000;
+
+  private final UserRepository userRepository;
+  private final UserService userService;
+  private final boolean enabled;
+  private final long tickMillis;
+  private final long horizonMillis;
+  private final int batchSize;
+  private final SuspensionTimerWheel wheel;
+
+  private ScheduledExecutorService executor;
+  private volatile boolean running;
+  private volatile LocalDateTime loadedUntil;
+
+  public SuspensionExpiryScheduler(UserRepository userRepository,
+                                   UserService userService,
+                                   @Value("${user.suspension.expiry-enabled:true}") boolean enabled,
+                                   @Value("${user.suspension.tick-ms:1000}") long tickMillis,
+                                   @Value("${user.suspension.wheel-slots:3600}") int wheelSlots,
+                                   @Value("${user.suspension.horizon-ms:600000}") long horizonMillis,
+                                   @Value("${user.suspension.batch-size:500}") int batchSize) {
+    this.userRepository = userRepository;
+    this.userService = userService;
+    this.enabled = enabled;
+    this.tickMillis = tickMillis;
+    this.horizonMillis = horizonMillis;
+    this.batchSize = batchSize;
+    this.wheel = new SuspensionTimerWheel(tickMillis, wheelSlots, System.currentTimeMillis());
+  }
+
+  /**
+   * 새 정지는 커밋 후에 바로 휠에 올린다. 휠 한 바퀴보다 먼 만료는 구간 로딩에 맡긴다.
+   */
+  @TransactionalEventListener
+  public void onUserChanged(UserChangedEvent event) {
+    if (!running || event.getType() != UserChangeType.SUSPENDED || event.getSuspendedUntil() == null) {
+      return;
+    }
+    long expiresAt = toEpochMillis(event.getSuspendedUntil());
+    if (expiresAt - System.currentTimeMillis() < wheel.getSpanMillis()) {
+      wheel.schedule(event.getUserId(), expiresAt);
+    }
+  }
+
+  @Override
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    executor = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "user-suspension-expiry");
+      thread.setDaemon(true);
+      return thread;
+    });
+    running = true;
+    executor.execute(() -> loadHorizon(null));
+    executor.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    executor.scheduleWithFixedDelay(() -> loadHorizon(loadedUntil),
+        horizonMillis / 2, horizonMillis / 2, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * from 이후부터 지금 + horizon 전까지 끝나는 정지를 인덱스 범위 조회로 휠에 올린다.
+   * (from 이 없으면 이미 지난 만료까지 모두 불러온다)
+   */
+  private void loadHorizon(LocalDateTime from) {
+    try {
+      LocalDateTime until = LocalDateTime.now().plusNanos(horizonMillis * 1_000_000);
+      LocalDateTime after = from != null ? from : LocalDateTime.of(1970, 1, 1, 0, 0);
+      long afterId = 0L;
+      int loaded = 0;
+      while (true) {
+        List<SuspensionExpiry> page = userRepository.findSuspensionsEndingBefore(
+            UserStatus.SUSPENDED, until, after, afterId, Limit.of(LOAD_PAGE_SIZE));
+        for (SuspensionExpiry expiry : page) {
+          wheel.schedule(expiry.getId(), toEpochMillis(expiry.getSuspendedUntil()));
+        }
+        loaded += page.size();
+        if (page.size() < LOAD_PAGE_SIZE) {
+          break;
+        }
+        SuspensionExpiry last = page.get(page.size() - 1);
+        after = last.getSuspendedUntil();
+        afterId = last.getId();
+      }
+      loadedUntil = until;
+      log.debug("정지 만료 예정 {}건을 불러왔습니다. (~{})", loaded, until);
+    } catch (RuntimeException e) {
+      log.error("정지 만료 예정을 불러오지 못했습니다.", e);
+    }
+  }
+
+  private void tick() {
+    Set<Long> due = wheel.advance(System.currentTimeMillis());
+    if (due.isEmpty()) {
+      return;
+    }
+
+    List<Long> batch = new ArrayList<>(batchSize);
+    for (Long userId : due) {
+      batch.add(userId);
+      if (batch.size() == batchSize) {
+        expire(batch);
+        batch = new ArrayList<>(batchSize);
+      }
+    }
+    if (!batch.isEmpty()) {
+      expire(batch);
+    }
+  }
+
+  private void expire(List<Long> userIds) {
+    try {
+      int expired = userService.expireSuspensions(userIds, LocalDateTime.now());
+      log.debug("정지 {}건 해제 (대상 {}건)", expired, userIds.size());
+    } catch (RuntimeException e) {
+      // 다음 tick 에 다시 시도한다
+      log.error("정지 해제 실패: {}건", userIds.size(), e);
+      long retryAt = System.currentTimeMillis() + tickMillis;
+      userIds.forEach(userId -> wheel.schedule(userId, retryAt));
+    }
+  }
+
+  private static long toEpochMillis(LocalDateTime dateTime) {
+    return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+}
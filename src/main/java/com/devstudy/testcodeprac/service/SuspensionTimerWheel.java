@@ -0,0 +1,83 @@
+package com.devstudy.testcodeprac.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 정지 만료용 해시 타이머 휠
+ *
+ * 만료 시각을 tick 단위로 잘라 슬롯(tick % 슬롯 수)에 넣고, advance 할 때 지나간 슬롯만 확인한다.
+ * 한 바퀴보다 먼 만료도 넣을 수 있지만(다음 바퀴에 다시 확인), 스케줄러는 가까운 구간만 넣고
+ * 먼 만료는 DB 인덱스에서 구간 단위로 불러온다.
+ */
+public class SuspensionTimerWheel {
+
+  private final long tickMillis;
+  private final List<List<Timeout>> slots;
+  private long currentTick;
+  private int size;
+
+  public SuspensionTimerWheel(long tickMillis, int slotCount, long startMillis) {
+    this.tickMillis = tickMillis;
+    this.slots = new ArrayList<>(slotCount);
+    for (int i = 0; i < slotCount; i++) {
+      slots.add(new ArrayList<>());
+    }
+    this.currentTick = startMillis / tickMillis;
+  }
+
+  /**
+   * 한 바퀴에 담을 수 있는 시간 (이 범위 안의 만료는 슬롯을 한 번만 거쳐 처리된다)
+   */
+  public long getSpanMillis() {
+    return tickMillis * slots.size();
+  }
+
+  public synchronized void schedule(long userId, long expiresAtMillis) {
+    // 이미 지났거나 현재 tick 안의 만료는 다음 advance 에서 바로 처리되도록 한 칸 뒤에 넣는다
+    long tick = Math.max(ceilDiv(expiresAtMillis, tickMillis), currentTick + 1);
+    slots.get((int) (tick % slots.size())).add(new Timeout(userId, tick));
+    size++;
+  }
+
+  /**
+   * 현재 시각까지 만료된 사용자 ID 를 꺼낸다.
+   */
+  public synchronized Set<Long> advance(long nowMillis) {
+    long targetTick = nowMillis / tickMillis;
+    Set<Long> due = new LinkedHashSet<>();
+    if (targetTick <= currentTick) {
+      return due;
+    }
+
+    // 한 바퀴 이상 밀렸으면 모든 슬롯을 한 번씩만 확인하면 된다
+    long steps = Math.min(targetTick - currentTick, slots.size());
+    for (long tick = targetTick - steps + 1; tick <= targetTick; tick++) {
+      Iterator<Timeout> iterator = slots.get((int) (tick % slots.size())).iterator();
+      while (iterator.hasNext()) {
+        Timeout timeout = iterator.next();
+        if (timeout.tick <= targetTick) {
+          due.add(timeout.userId);
+          iterator.remove();
+          size--;
+        }
+      }
+    }
+    currentTick = targetTick;
+    return due;
+  }
+
+  public synchronized int size() {
+    return size;
+  }
+
+  private static long ceilDiv(long value, long divisor) {
+    return -Math.floorDiv(-value, divisor);
+  }
+
+  private record Timeout(long userId, long tick) {
+  }
+}
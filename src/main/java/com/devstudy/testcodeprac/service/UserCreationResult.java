@@ -0,0 +1,29 @@
+package com.devstudy.testcodeprac.service;
+
+import com.devstudy.testcodeprac.domain.User;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일괄 생성에서 한 건의 결과 (저장된 사용자 또는 그 건에만 해당하는 예외)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserCreationResult {
+
+  private final User user;
+  private final RuntimeException error;
+
+  public static UserCreationResult success(User user) {
+    return new UserCreationResult(user, null);
+  }
+
+  public static UserCreationResult failure(RuntimeException error) {
+    return new UserCreationResult(null, error);
+  }
+
+  public boolean isSuccess() {
+    return error == null;
+  }
+}
@@ -0,0 +1,213 @@
+package com.devstudy.testcodeprac.service;
+
+import com.devstudy.testcodeprac.domain.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가입 요청 처리 파이프라인 (비동기 createUser)
+ *
+ * 1단계 검증: 입력값/이메일 형식 검증을 여러 스레드에서 병렬로 실행한다.
+ * 2단계 저장: 검증을 통과한 요청을 flush 주기 동안 모아서 중복 체크(IN 쿼리 한 번)와 저장을 한 트랜잭션에서 한다.
+ *
+ * 단계 사이의 큐는 크기가 제한되어 있어, 밀리면 검증은 호출 스레드에서 실행되고 저장 큐에 넣을 때 기다린다.
+ * 결과는 요청마다 CompletableFuture 로 돌려주며, 예외도 createUser 와 같다
+ * (InvalidInputException, InvalidEmailException, DuplicateEmailException).
+ * 배치 트랜잭션이 통째로 실패하면(동시 가입과의 유니크 충돌 등) 한 건씩 createUser 로 다시 처리한다.
+ * 환영 이메일은 배치가 커밋된 뒤에 보낸다.
+ */
+@Slf4j
+@Component
+public class UserIngestionPipeline implements SmartLifecycle {
+
+  private final UserService userService;
+  private final int validationThreads;
+  private final int validationQueueSize;
+  private final int batchSize;
+  private final long flushIntervalMillis;
+  private final BlockingQueue<Signup> insertQueue;
+
+  private ThreadPoolExecutor validationExecutor;
+  private Thread writer;
+  private volatile boolean running;
+
+  public UserIngestionPipeline(UserService userService,
+                               @Value("${user.ingestion.validation-threads:4}") int validationThreads,
+                               @Value("${user.ingestion.validation-queue-size:1000}") int validationQueueSize,
+                               @Value("${user.ingestion.insert-queue-size:1000}") int insertQueueSize,
+                               @Value("${user.ingestion.batch-size:50}") int batchSize,
+                               @Value("${user.ingestion.flush-interval-ms:10}") long flushIntervalMillis) {
+    this.userService = userService;
+    this.validationThreads = validationThreads;
+    this.validationQueueSize = validationQueueSize;
+    this.batchSize = batchSize;
+    this.flushIntervalMillis = flushIntervalMillis;
+    this.insertQueue = new ArrayBlockingQueue<>(insertQueueSize);
+  }
+
+  public CompletableFuture<User> submit(String name, String email, Integer age) {
+    Signup signup = new Signup(name, email, age, new CompletableFuture<>());
+    if (!running) {
+      signup.future().completeExceptionally(new IllegalStateException("가입 처리 파이프라인이 중지되었습니다."));
+      return signup.future();
+    }
+    try {
+      validationExecutor.execute(() -> validate(signup));
+    } catch (RejectedExecutionException e) {
+      signup.future().completeExceptionally(new IllegalStateException("가입 처리 파이프라인이 중지되었습니다."));
+    }
+    return signup.future();
+  }
+
+  private void validate(Signup signup) {
+    try {
+      userService.validateNewUser(signup.name(), signup.email(), signup.age());
+      insertQueue.put(signup);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      signup.future().completeExceptionally(e);
+    } catch (RuntimeException e) {
+      signup.future().completeExceptionally(e);
+    }
+  }
+
+  private void runWriter() {
+    while (running || !insertQueue.isEmpty() || !validationExecutor.isTerminated()) {
+      try {
+        Signup first = insertQueue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        // flush 주기 동안 들어오는 요청을 배치 크기까지 모은다
+        List<Signup> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize) {
+          long remaining = deadline - System.nanoTime();
+          Signup next = remaining > 0 ? insertQueue.poll(remaining, TimeUnit.NANOSECONDS) : insertQueue.poll();
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+        write(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        log.error("가입 배치 처리 중 오류", e);
+      }
+    }
+  }
+
+  private void write(List<Signup> batch) {
+    List<UserCreationResult> results;
+    try {
+      results = userService.createValidatedUsers(batch.stream().map(Signup::toUser).toList());
+    } catch (RuntimeException e) {
+      log.warn("가입 배치 {}건 저장 실패, 한 건씩 다시 처리합니다.", batch.size(), e);
+      batch.forEach(this::writeOne);
+      return;
+    }
+
+    for (int i = 0; i < batch.size(); i++) {
+      UserCreationResult result = results.get(i);
+      if (result.isSuccess()) {
+        batch.get(i).future().complete(result.getUser());
+      } else {
+        batch.get(i).future().completeExceptionally(result.getError());
+      }
+    }
+
+    // 배치가 커밋된 뒤에만 보내야 롤백 후 재처리될 때 이메일이 두 번 가지 않는다
+    for (UserCreationResult result : results) {
+      if (result.isSuccess()) {
+        sendWelcomeEmail(result.getUser());
+      }
+    }
+  }
+
+  private void sendWelcomeEmail(User user) {
+    try {
+      userService.sendWelcomeEmail(user);
+    } catch (RuntimeException e) {
+      log.warn("환영 이메일 발송 실패: {}", user.getEmail(), e);
+    }
+  }
+
+  private void writeOne(Signup signup) {
+    try {
+      signup.future().complete(userService.createUser(signup.name(), signup.email(), signup.age()));
+    } catch (RuntimeException e) {
+      signup.future().completeExceptionally(e);
+    }
+  }
+
+  @Override
+  public void start() {
+    AtomicInteger threadNumber = new AtomicInteger();
+    validationExecutor = new ThreadPoolExecutor(validationThreads, validationThreads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(validationQueueSize),
+        r -> daemon(r, "user-ingestion-validate-" + threadNumber.incrementAndGet()),
+        (task, executor) -> {
+          // 검증 큐가 가득 차면 호출 스레드에서 검증한다 (종료 중이면 거절)
+          if (executor.isShutdown()) {
+            throw new RejectedExecutionException("shutdown");
+          }
+          task.run();
+        });
+    writer = daemon(this::runWriter, "user-ingestion-writer");
+    running = true;
+    writer.start();
+  }
+
+  @Override
+  public void stop() {
+    // 이미 받은 요청은 모두 저장한 뒤 멈춘다
+    running = false;
+    validationExecutor.shutdown();
+    try {
+      validationExecutor.awaitTermination(10, TimeUnit.SECONDS);
+      writer.join(TimeUnit.SECONDS.toMillis(10));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    // 웹 서버(DEFAULT_PHASE - 2048)보다 늦게 멈춰야 종료 중 들어온 가입까지 처리된다
+    return SmartLifecycle.DEFAULT_PHASE - 4096;
+  }
+
+  private static Thread daemon(Runnable runnable, String name) {
+    // 종료 시 처리는 stop() 에서 끝내므로 JVM 종료를 막지 않게 한다
+    Thread thread = new Thread(runnable, name);
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  private record Signup(String name, String email, Integer age, CompletableFuture<User> future) {
+
+    User toUser() {
+      return new User(name.trim(), email.trim(), age);
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.devstudy.testcodeprac.service;
+
+import com.devstudy.testcodeprac.domain.User;
+import com.devstudy.testcodeprac.domain.enums.UserChangeType;
+import com.devstudy.testcodeprac.event.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 없는 사용자 조회(ID/이메일) 결과를 짧게 기억하는 캐시
+ *
+ * 존재하지 않는 키를 반복해서 묻는 요청이 매번 DB 를 조회하지 않게 한다.
+ * 가입 시 해당 이메일과 새 ID 를 지우고, 커밋 후에도 한 번 더 지운다.
+ * 조회를 시작할 때의 세대(generation)를 받아두었다가 그 사이 가입이 있었으면 기록하지 않으므로,
+ * 가입과 동시에 진행된 조회가 오래된 "없음" 을 남기지 않는다.
+ * 항목 수가 상한을 넘으면 만료된 항목을 정리하고, 그래도 넘으면 비운다.
+ *
+ * 이메일은 앞뒤 공백을 빼고 소문자로 바꾼 키에 두어 대소문자만 다르게 가입해도 지워지게 하고,
+ * "없음" 은 조회한 이메일과 정확히 같을 때만 돌려준다.
+ * (대소문자를 구분하는 콜레이션에서는 대소문자만 다른 사용자가 따로 있을 수 있다)
+ */
+@Component
+public class UserMissCache {
+
+  private final boolean enabled;
+  private final long ttlNanos;
+  private final int maxEntries;
+
+  // ID(Long) 와 이메일(String) 을 같은 맵에 둔다 (두 타입은 서로 같을 수 없다)
+  private final Map<Object, Miss> misses = new ConcurrentHashMap<>();
+  private final AtomicLong generation = new AtomicLong();
+
+  public UserMissCache(@Value("${user.miss-cache.enabled:true}") boolean enabled,
+                       @Value("${user.miss-cache.ttl-ms:5000}") long ttlMillis,
+                       @Value("${user.miss-cache.max-entries:100000}") int maxEntries) {
+    this.enabled = enabled;
+    this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    this.maxEntries = maxEntries;
+  }
+
+  public boolean isMissingId(Long id) {
+    return isMissing(id, id);
+  }
+
+  public boolean isMissingEmail(String email) {
+    return isMissing(emailKey(email), email.trim());
+  }
+
+  /**
+   * DB 조회 전에 받아두고 markMissing 에 넘긴다.
+   */
+  public long generation() {
+    return generation.get();
+  }
+
+  public void markMissingId(Long id, long observedGeneration) {
+    markMissing(id, id, observedGeneration);
+  }
+
+  public void markMissingEmail(String email, long observedGeneration) {
+    markMissing(emailKey(email), email.trim(), observedGeneration);
+  }
+
+  public void invalidate(User user) {
+    generation.incrementAndGet();
+    if (user.getId() != null) {
+      misses.remove(user.getId());
+    }
+    misses.remove(emailKey(user.getEmail()));
+  }
+
+  /**
+   * 커밋 전에 시작된 조회가 남긴 "없음" 을 커밋 후에 다시 지운다.
+   */
+  @TransactionalEventListener
+  public void onUserChanged(UserChangedEvent event) {
+    if (event.getType() != UserChangeType.CREATED) {
+      return;
+    }
+    generation.incrementAndGet();
+    misses.remove(event.getUserId());
+    misses.remove(emailKey(event.getEmail()));
+  }
+
+  public int size() {
+    return misses.size();
+  }
+
+  private static String emailKey(String email) {
+    return email.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private boolean isMissing(Object key, Object lookedUp) {
+    if (!enabled) {
+      return false;
+    }
+    Miss miss = misses.get(key);
+    if (miss == null) {
+      return false;
+    }
+    if (miss.expiresAt - System.nanoTime() <= 0) {
+      misses.remove(key, miss);
+      return false;
+    }
+    return miss.lookedUp.equals(lookedUp);
+  }
+
+  private void markMissing(Object key, Object lookedUp, long observedGeneration) {
+    if (!enabled || generation.get() != observedGeneration) {
+      return;
+    }
+    long now = System.nanoTime();
+    if (misses.size() >= maxEntries) {
+      misses.values().removeIf(miss -> miss.expiresAt - now <= 0);
+      if (misses.size() >= maxEntries) {
+        misses.clear();
+      }
+    }
+    misses.put(key, new Miss(lookedUp, now + ttlNanos));
+    // 기록하는 사이에 가입이 끼어들었으면 되돌린다
+    if (generation.get() != observedGeneration) {
+      misses.remove(key);
+    }
+  }
+
+  private record Miss(Object lookedUp, long expiresAt) {
+  }
+}
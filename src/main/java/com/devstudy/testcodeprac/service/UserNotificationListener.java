@@ -0,0 +1,33 @@
+package com.devstudy.testcodeprac.service;
+
+import com.devstudy.testcodeprac.domain.enums.UserChangeType;
+import com.devstudy.testcodeprac.event.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 변경에 대해서만 알림 이메일을 보낸다.
+ * (트랜잭션 안에서 보내면 롤백 후 재시도될 때 같은 메일이 두 번 나간다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserNotificationListener {
+
+  private final EmailService emailService;
+
+  @TransactionalEventListener
+  public void onUserChanged(UserChangedEvent event) {
+    if (event.getType() != UserChangeType.REACTIVATED) {
+      return;
+    }
+    // 이미 커밋된 뒤이므로 발송 실패가 호출한 쪽으로 전파되지 않게 한다
+    try {
+      emailService.sendReactivationEmail(event.getEmail(), event.getName());
+    } catch (RuntimeException e) {
+      log.warn("재활성화 이메일 발송 실패: {}", event.getEmail(), e);
+    }
+  }
+}
@@ -0,0 +1,245 @@
+package com.devstudy.testcodeprac.service;
+
+import com.devstudy.testcodeprac.config.exception.InvalidInputException;
+import com.devstudy.testcodeprac.domain.User;
+import com.devstudy.testcodeprac.domain.enums.UserStatus;
+import com.devstudy.testcodeprac.dto.UserQueryPage;
+import com.devstudy.testcodeprac.dto.UserQueryRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 상태/나이/이름/가입일 조건을 자유롭게 조합하는 사용자 조회
+ *
+ * 어떤 조건이 있는지(조건 모양)만으로 JPQL 이 정해지므로, 모양별로 만든 JPQL 을 캐시해 재사용한다.
+ * 같은 JPQL 문자열은 Hibernate 쿼리 계획 캐시에도 걸리므로 반복되는 모양은 쿼리 생성과 파싱을 모두 건너뛴다.
+ * (Criteria API 쿼리는 기본 설정에서 계획 캐시를 타지 않는다)
+ *
+ * 페이지는 (정렬 값, id) 키셋으로 이어가므로 뒤 페이지로 가도 OFFSET 비용이 없다.
+ * 이름은 접두어 LIKE 'x%' 일 때만 인덱스를 탈 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserQueryService {
+
+  private static final int DEFAULT_PAGE_SIZE = 50;
+  private static final int MAX_PAGE_SIZE = 500;
+  private static final char LIKE_ESCAPE = '!';
+
+  private final EntityManager entityManager;
+  private final Map<QueryShape, String> compiledQueries = new ConcurrentHashMap<>();
+
+  public UserQueryPage query(UserQueryRequest request) {
+    int pageSize = request.getSize() == null ? DEFAULT_PAGE_SIZE : request.getSize();
+    if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+      throw new InvalidInputException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하로 입력해주세요.");
+    }
+    if (request.getMinAge() != null && request.getMaxAge() != null && request.getMinAge() > request.getMaxAge()) {
+      throw new InvalidInputException("최소 나이가 최대 나이보다 클 수 없습니다.");
+    }
+    SortField sort = SortField.from(request.getSort());
+    boolean descending = isDescending(request.getDirection());
+    Cursor cursor = Cursor.decode(request.getCursor(), sort, descending);
+
+    List<UserStatus> statuses = request.getStatus();
+    QueryShape shape = new QueryShape(
+        statuses != null && !statuses.isEmpty(),
+        request.getMinAge() != null,
+        request.getMaxAge() != null,
+        hasText(request.getNamePrefix()),
+        hasText(request.getNameContains()),
+        request.getCreatedFrom() != null,
+        request.getCreatedTo() != null,
+        sort, descending, cursor != null);
+
+    String jpql = compiledQueries.computeIfAbsent(shape, QueryShape::toJpql);
+    TypedQuery<User> query = entityManager.createQuery(jpql, User.class);
+    if (shape.status()) {
+      query.setParameter("statuses", statuses);
+    }
+    if (shape.minAge()) {
+      query.setParameter("minAge", request.getMinAge());
+    }
+    if (shape.maxAge()) {
+      query.setParameter("maxAge", request.getMaxAge());
+    }
+    if (shape.namePrefix()) {
+      query.setParameter("namePrefix", escapeLike(request.getNamePrefix().trim()) + "%");
+    }
+    if (shape.nameContains()) {
+      query.setParameter("nameContains", "%" + escapeLike(request.getNameContains().trim()) + "%");
+    }
+    if (shape.createdFrom()) {
+      query.setParameter("createdFrom", request.getCreatedFrom());
+    }
+    if (shape.createdTo()) {
+      query.setParameter("createdTo", request.getCreatedTo());
+    }
+    if (shape.keyset()) {
+      query.setParameter("keysetId", cursor.id());
+      if (sort != SortField.ID) {
+        query.setParameter("keysetValue", cursor.value());
+      }
+    }
+    query.setMaxResults(pageSize + 1);
+
+    List<User> users = query.getResultList();
+    boolean hasMore = users.size() > pageSize;
+    List<User> page = hasMore ? users.subList(0, pageSize) : users;
+    String nextCursor = hasMore ? Cursor.of(sort, descending, page.get(page.size() - 1)).encode() : null;
+    return new UserQueryPage(List.copyOf(page), nextCursor, hasMore);
+  }
+
+  /**
+   * 지금까지 만들어 둔 조건 모양 수 (모양 수는 조건 조합으로 제한된다)
+   */
+  public int getCompiledQueryCount() {
+    return compiledQueries.size();
+  }
+
+  private static boolean isDescending(String direction) {
+    if (direction == null || direction.equalsIgnoreCase("asc")) {
+      return false;
+    }
+    if (direction.equalsIgnoreCase("desc")) {
+      return true;
+    }
+    throw new InvalidInputException("정렬 방향은 asc 또는 desc 로 입력해주세요: " + direction);
+  }
+
+  private static boolean hasText(String value) {
+    return value != null && !value.trim().isEmpty();
+  }
+
+  private static String escapeLike(String value) {
+    StringBuilder escaped = new StringBuilder(value.length());
+    for (char c : value.toCharArray()) {
+      if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+        escaped.append(LIKE_ESCAPE);
+      }
+      escaped.append(c);
+    }
+    return escaped.toString();
+  }
+
+  private enum SortField {
+    ID("id", User::getId, Long::valueOf),
+    NAME("name", User::getName, value -> value),
+    AGE("age", User::getAge, Integer::valueOf),
+    CREATED_AT("createdAt", User::getCreatedAt, LocalDateTime::parse);
+
+    private final String property;
+    private final Function<User, Object> getter;
+    private final Function<String, Object> parser;
+
+    SortField(String property, Function<User, Object> getter, Function<String, Object> parser) {
+      this.property = property;
+      this.getter = getter;
+      this.parser = parser;
+    }
+
+    static SortField from(String value) {
+      for (SortField field : values()) {
+        if (field.property.equals(value == null ? "id" : value)) {
+          return field;
+        }
+      }
+      throw new InvalidInputException("정렬할 수 없는 항목입니다: " + value);
+    }
+  }
+
+  private record QueryShape(boolean status, boolean minAge, boolean maxAge, boolean namePrefix,
+                            boolean nameContains, boolean createdFrom, boolean createdTo,
+                            SortField sort, boolean descending, boolean keyset) {
+
+    String toJpql() {
+      List<String> predicates = new ArrayList<>();
+      if (status) {
+        predicates.add("u.status IN :statuses");
+      }
+      if (minAge) {
+        predicates.add("u.age >= :minAge");
+      }
+      if (maxAge) {
+        predicates.add("u.age <= :maxAge");
+      }
+      if (namePrefix) {
+        predicates.add("u.name LIKE :namePrefix ESCAPE '" + LIKE_ESCAPE + "'");
+      }
+      if (nameContains) {
+        predicates.add("u.name LIKE :nameContains ESCAPE '" + LIKE_ESCAPE + "'");
+      }
+      if (createdFrom) {
+        predicates.add("u.createdAt >= :createdFrom");
+      }
+      if (createdTo) {
+        predicates.add("u.createdAt < :createdTo");
+      }
+
+      String property = "u." + sort.property;
+      String comparison = descending ? " < " : " > ";
+      String order = descending ? " DESC" : " ASC";
+      if (keyset) {
+        predicates.add(sort == SortField.ID
+            ? "u.id" + comparison + ":keysetId"
+            : "(" + property + comparison + ":keysetValue OR (" + property + " = :keysetValue AND u.id"
+                + comparison + ":keysetId))");
+      }
+
+      StringBuilder jpql = new StringBuilder("SELECT u FROM User u");
+      if (!predicates.isEmpty()) {
+        jpql.append(" WHERE ").append(String.join(" AND ", predicates));
+      }
+      jpql.append(" ORDER BY ").append(property).append(order);
+      if (sort != SortField.ID) {
+        jpql.append(", u.id").append(order);
+      }
+      return jpql.toString();
+    }
+  }
+
+  /**
+   * 마지막으로 돌려준 행의 (정렬 값, id)
+   * 정렬 항목과 방향을 함께 담아 다른 정렬에 잘못 쓰이지 않게 한다.
+   */
+  private record Cursor(SortField sort, boolean descending, Object value, Long id) {
+
+    static Cursor of(SortField sort, boolean descending, User last) {
+      return new Cursor(sort, descending, sort.getter.apply(last), last.getId());
+    }
+
+    String encode() {
+      String raw = sort.name() + "|" + descending + "|" + id + "|" + value;
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Cursor decode(String encoded, SortField sort, boolean descending) {
+      if (encoded == null || encoded.isBlank()) {
+        return null;
+      }
+      try {
+        String[] parts = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8).split("\\|", 4);
+        if (SortField.valueOf(parts[0]) != sort || Boolean.parseBoolean(parts[1]) != descending) {
+          throw new InvalidInputException("커서와 정렬 조건이 다릅니다.");
+        }
+        return new Cursor(sort, descending, sort.parser.apply(parts[3]), Long.valueOf(parts[2]));
+      } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+        throw new InvalidInputException("올바르지 않은 커서입니다: " + encoded);
+      }
+    }
+  }
+}
@@ -2,24 +2,75 @@ package com.devstudy.testcodeprac.service;
 
 import com.devstudy.testcodeprac.config.exception.*;
 import com.devstudy.testcodeprac.domain.User;
+import com.devstudy.testcodeprac.domain.UserTombstone;
+import com.devstudy.testcodeprac.domain.enums.UserChangeType;
 import com.devstudy.testcodeprac.domain.enums.UserStatus;
+import com.devstudy.testcodeprac.dto.UserBatchLookupResponse;
+import com.devstudy.testcodeprac.dto.UserLookupResult;
+import com.devstudy.testcodeprac.event.UserChangedEvent;
 import com.devstudy.testcodeprac.repository.UserRepository;
+import com.devstudy.testcodeprac.repository.UserTombstoneRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
+  private static final int BATCH_LOOKUP_MAX_KEYS = 5000;
+  private static final int BATCH_LOOKUP_CHUNK_SIZE = 500;
+
   private final UserRepository userRepository;
+  private final UserTombstoneRepository userTombstoneRepository;
   private final EmailService emailService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final UserWriteBuffer userWriteBuffer;
+  private final UserMissCache userMissCache;
 
   @Transactional
   public User createUser(String name, String email, Integer age) {
+    validateNewUser(name, email, age);
+
+    // 3. 이메일 중복 체크
+    if (userRepository.existsByEmail(email)) {
+      throw new DuplicateEmailException("이미 존재하는 이메일입니다: " + email);
+    }
+
+    // 4. 사용자 생성
+    User user = new User(name.trim(), email.trim(), age);
+    User savedUser = userRepository.save(user);
+    userMissCache.invalidate(savedUser);
+    eventPublisher.publishEvent(UserChangedEvent.of(UserChangeType.CREATED, savedUser));
+
+    // 5. 환영 이메일 발송
+    emailService.sendWelcomeEmail(email, name);
+
+    return savedUser;
+  }
+
+  /**
+   * 신규 사용자 입력값과 이메일 형식 검증 (DB 를 보지 않으므로 병렬로 실행해도 된다)
+   * 파이프라인의 검증 스레드가 요청마다 커넥션을 잡지 않도록 트랜잭션 없이 실행한다.
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void validateNewUser(String name, String email, Integer age) {
     // 1. 입력값 검증
     if (name == null || name.trim().isEmpty()) {
       throw new InvalidInputException("이름을 입력해주세요.");
@@ -35,36 +86,159 @@ public class UserService {
     if (!emailService.isEmailValid(email)) {
       throw new InvalidEmailException("유효하지 않은 이메일 형식입니다: " + email);
     }
+  }
 
-    // 3. 이메일 중복 체크
-    if (userRepository.existsByEmail(email)) {
-      throw new DuplicateEmailException("이미 존재하는 이메일입니다: " + email);
-    }
-
-    // 4. 사용자 생성
-    User user = new User(name.trim(), email.trim(), age);
-    User savedUser = userRepository.save(user);
+  /**
+   * 검증을 마친 신규 사용자들을 한 트랜잭션에서 저장한다. (UserIngestionPipeline 의 마이크로 배치)
+   * 중복 체크는 IN 쿼리 한 번으로 하고, 이미 있거나 배치 안에서 먼저 나온 이메일은
+   * 저장하지 않고 DuplicateEmailException 을 결과로 돌려준다.
+   * 환영 이메일은 보내지 않는다. 배치가 롤백된 뒤 한 건씩 다시 처리될 수 있으므로
+   * 커밋이 끝난 뒤 호출하는 쪽에서 sendWelcomeEmail 로 보낸다.
+   *
+   * @return 요청과 같은 순서의 결과
+   */
+  @Transactional
+  public List<UserCreationResult> createValidatedUsers(List<User> newUsers) {
+    Set<String> taken = new HashSet<>(userRepository.findEmailsIn(
+        newUsers.stream().map(User::getEmail).toList()));
 
-    // 5. 환영 이메일 발송
-    emailService.sendWelcomeEmail(email, name);
+    List<UserCreationResult> results = new ArrayList<>(newUsers.size());
+    for (User user : newUsers) {
+      if (!taken.add(user.getEmail())) {
+        results.add(UserCreationResult.failure(
+            new DuplicateEmailException("이미 존재하는 이메일입니다: " + user.getEmail())));
+        continue;
+      }
+      User savedUser = userRepository.save(user);
+      userMissCache.invalidate(savedUser);
+      eventPublisher.publishEvent(UserChangedEvent.of(UserChangeType.CREATED, savedUser));
+      results.add(UserCreationResult.success(savedUser));
+    }
+    return results;
+  }
 
-    return savedUser;
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void sendWelcomeEmail(User user) {
+    emailService.sendWelcomeEmail(user.getEmail(), user.getName());
   }
 
   public User getUserById(Long id) {
     if (id == null || id <= 0) {
       throw new InvalidInputException("올바른 사용자 ID를 입력해주세요.");
     }
+    // 최근에 없었던 ID 는 DB 를 다시 조회하지 않는다
+    if (userMissCache.isMissingId(id)) {
+      throw new UserNotFoundException("사용자를 찾을 수 없습니다. ID: " + id);
+    }
+    long generation = userMissCache.generation();
     return userRepository.findById(id)
-        .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다. ID: " + id));
+        .map(this::withPendingWrites)
+        .orElseThrow(() -> {
+          userMissCache.markMissingId(id, generation);
+          return new UserNotFoundException("사용자를 찾을 수 없습니다. ID: " + id);
+        });
   }
 
   public User getUserByEmail(String email) {
     if (email == null || email.trim().isEmpty()) {
       throw new InvalidInputException("이메일을 입력해주세요.");
     }
-    return userRepository.findByEmail(email.trim())
-        .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다. Email: " + email));
+    String trimmedEmail = email.trim();
+    if (userMissCache.isMissingEmail(trimmedEmail)) {
+      throw new UserNotFoundException("사용자를 찾을 수 없습니다. Email: " + email);
+    }
+    long generation = userMissCache.generation();
+    return userRepository.findByEmail(trimmedEmail)
+        .map(this::withPendingWrites)
+        .orElseThrow(() -> {
+          userMissCache.markMissingEmail(trimmedEmail, generation);
+          return new UserNotFoundException("사용자를 찾을 수 없습니다. Email: " + email);
+        });
+  }
+
+  /**
+   * ID/이메일 일괄 조회
+   * 중복을 제거한 키를 묶음 단위 IN 쿼리로 조회하고, 요청 순서대로 결과를 돌려준다.
+   * 찾지 못한 키는 UserNotFoundException 대신 found=false 로 표시한다.
+   * 이메일은 정확히 같은 행을 먼저 찾고, 없을 때만 대소문자를 무시하고 맞춘다.
+   * (MySQL 기본 콜레이션처럼 DB 가 대소문자를 무시하면 요청과 다른 대소문자로 저장된 행이 돌아오고,
+   * 대소문자를 구분하는 DB 에서는 대소문자만 다른 사용자가 따로 있을 수 있다)
+   */
+  public UserBatchLookupResponse lookupUsers(List<Long> ids, List<String> emails) {
+    List<Long> requestedIds = ids == null ? List.of() : ids;
+    List<String> requestedEmails = emails == null ? List.of() : emails;
+    if (requestedIds.size() + requestedEmails.size() > BATCH_LOOKUP_MAX_KEYS) {
+      throw new InvalidInputException("한 번에 조회할 수 있는 사용자는 최대 " + BATCH_LOOKUP_MAX_KEYS + "명입니다.");
+    }
+
+    Set<Long> distinctIds = new LinkedHashSet<>();
+    for (Long id : requestedIds) {
+      if (id != null && id > 0) {
+        distinctIds.add(id);
+      }
+    }
+    Set<String> distinctEmails = new LinkedHashSet<>();
+    for (String email : requestedEmails) {
+      if (email != null && !email.trim().isEmpty()) {
+        distinctEmails.add(email.trim());
+      }
+    }
+
+    Map<Long, User> usersById = findInChunks(distinctIds, userRepository::findAllById, User::getId);
+    Map<String, User> usersByEmail = findInChunks(distinctEmails, userRepository::findByEmailIn, User::getEmail);
+    // 대소문자를 무시하는 콜레이션에서는 요청과 대소문자가 다른 행이 돌아오므로, 정확히 맞는 행이 없을 때만 쓴다
+    Map<String, User> usersByFoldedEmail = new HashMap<>();
+    for (User user : usersByEmail.values()) {
+      usersByFoldedEmail.merge(foldEmail(user.getEmail()), user,
+          (kept, other) -> kept.getId() <= other.getId() ? kept : other);
+    }
+
+    List<UserLookupResult> idResults = new ArrayList<>(requestedIds.size());
+    for (Long id : requestedIds) {
+      User user = id == null ? null : usersById.get(id);
+      idResults.add(UserLookupResult.of(id, withPendingWrites(user)));
+    }
+    List<UserLookupResult> emailResults = new ArrayList<>(requestedEmails.size());
+    for (String email : requestedEmails) {
+      User user = email == null ? null : findByEmail(usersByEmail, usersByFoldedEmail, email.trim());
+      emailResults.add(UserLookupResult.of(email, withPendingWrites(user)));
+    }
+    return new UserBatchLookupResponse(idResults, emailResults);
+  }
+
+  private static User findByEmail(Map<String, User> exact, Map<String, User> folded, String email) {
+    User user = exact.get(email);
+    return user != null ? user : folded.get(foldEmail(email));
+  }
+
+  private static String foldEmail(String email) {
+    return email.toLowerCase(Locale.ROOT);
+  }
+
+  private <K> Map<K, User> findInChunks(Set<K> keys, Function<List<K>, List<User>> query, Function<User, K> keyOf) {
+    Map<K, User> found = new HashMap<>();
+    List<K> chunk = new ArrayList<>(BATCH_LOOKUP_CHUNK_SIZE);
+    for (K key : keys) {
+      chunk.add(key);
+      if (chunk.size() == BATCH_LOOKUP_CHUNK_SIZE) {
+        query.apply(chunk).forEach(user -> found.put(keyOf.apply(user), user));
+        chunk = new ArrayList<>(BATCH_LOOKUP_CHUNK_SIZE);
+      }
+    }
+    if (!chunk.isEmpty()) {
+      query.apply(chunk).forEach(user -> found.put(keyOf.apply(user), user));
+    }
+    return found;
+  }
+
+  /**
+   * 쓰기 지연 버퍼에 아직 반영되지 않은 수정이 있으면 덮어쓴 복사본을 돌려준다.
+   */
+  private User withPendingWrites(User user) {
+    if (user == null || !userWriteBuffer.hasPending(user.getId())) {
+      return user;
+    }
+    return userWriteBuffer.overlay(user);
   }
 
   public List<User> getAllActiveUsers() {
@@ -81,15 +255,25 @@ public class UserService {
   @Transactional
   public User updateUser(Long id, String name, Integer age) {
     User user = getUserById(id);
+    String newName = (name != null && !name.trim().isEmpty()) ? name.trim() : null;
+    Integer newAge = (age != null && age > 0) ? age : null;
 
-    if (name != null && !name.trim().isEmpty()) {
-      user.setName(name.trim());
+    // 쓰기 지연 모드: 존재 확인만 하고 변경은 버퍼에 모아 일괄 반영한다
+    if (userWriteBuffer.isEnabled()) {
+      userWriteBuffer.buffer(id, newName, newAge);
+      return userWriteBuffer.overlay(user);
     }
-    if (age != null && age > 0) {
-      user.setAge(age);
+
+    if (newName != null) {
+      user.setName(newName);
+    }
+    if (newAge != null) {
+      user.setAge(newAge);
     }
 
-    return userRepository.save(user);
+    User savedUser = userRepository.save(user);
+    eventPublisher.publishEvent(UserChangedEvent.of(UserChangeType.UPDATED, savedUser));
+    return savedUser;
   }
 
   @Transactional
@@ -100,8 +284,9 @@ public class UserService {
       throw new InvalidUserStatusException("이미 비활성화된 사용자입니다.");
     }
 
-    user.setStatus(UserStatus.INACTIVE);
+    user.deactivate();
     userRepository.save(user);
+    eventPublisher.publishEvent(UserChangedEvent.of(UserChangeType.DEACTIVATED, user));
 
     // 비활성화 알림 이메일 발송
     emailService.sendDeactivationEmail(user.getEmail(), user.getName());
@@ -115,17 +300,62 @@ public class UserService {
       throw new InvalidUserStatusException("비활성 상태의 사용자만 재활성화할 수 있습니다.");
     }
 
-    user.setStatus(UserStatus.ACTIVE);
+    user.activate();
     userRepository.save(user);
+    eventPublisher.publishEvent(UserChangedEvent.of(UserChangeType.REACTIVATED, user));
+  }
+
+  /**
+   * 기간 정지 - 정지 시각이 지나면 SuspensionExpiryScheduler 가 자동으로 해제한다.
+   * 이미 정지 중이면 새 기간으로 덮어쓴다.
+   */
+  @Transactional
+  public User suspendUser(Long id, Duration duration) {
+    if (duration == null || duration.isNegative() || duration.isZero()) {
+      throw new InvalidInputException("올바른 정지 기간을 입력해주세요.");
+    }
+    User user = getUserById(id);
 
-    // 재활성화 알림 이메일 발송
-    emailService.sendReactivationEmail(user.getEmail(), user.getName());
+    if (user.getStatus() == UserStatus.INACTIVE) {
+      throw new InvalidUserStatusException("비활성화된 사용자는 정지할 수 없습니다.");
+    }
+
+    user.suspend(LocalDateTime.now().plus(duration));
+    User savedUser = userRepository.save(user);
+    eventPublisher.publishEvent(UserChangedEvent.of(UserChangeType.SUSPENDED, savedUser));
+    return savedUser;
+  }
+
+  /**
+   * 정지 기간이 끝난 사용자들을 한 번에 해제한다. (SuspensionExpiryScheduler 가 묶음 단위로 호출)
+   * 상태와 만료 시각을 다시 확인하므로 이미 해제되었거나 기간이 연장된 사용자는 건너뛴다.
+   *
+   * @return 해제된 사용자 수
+   */
+  @Transactional
+  public int expireSuspensions(Collection<Long> ids, LocalDateTime now) {
+    int expired = 0;
+    for (User user : userRepository.findAllById(ids)) {
+      if (user.getStatus() != UserStatus.SUSPENDED
+          || user.getSuspendedUntil() == null
+          || user.getSuspendedUntil().isAfter(now)) {
+        continue;
+      }
+      user.activate();
+      eventPublisher.publishEvent(UserChangedEvent.of(UserChangeType.REACTIVATED, user));
+      expired++;
+    }
+    return expired;
   }
 
   @Transactional
   public void deleteUser(Long id) {
     User user = getUserById(id);
+    userWriteBuffer.discard(id);
     userRepository.delete(user);
+    // 변경분 동기화에서 삭제를 전달할 수 있도록 톰스톤을 남긴다
+    userTombstoneRepository.save(new UserTombstone(user.getId(), user.getEmail()));
+    eventPublisher.publishEvent(UserChangedEvent.of(UserChangeType.DELETED, user));
   }
 
   public long getActiveUserCount() {
@@ -0,0 +1,92 @@
+package com.devstudy.testcodeprac.service;
+
+import com.devstudy.testcodeprac.config.exception.InvalidInputException;
+import com.devstudy.testcodeprac.dto.UserChange;
+import com.devstudy.testcodeprac.dto.UserChangesResponse;
+import com.devstudy.testcodeprac.repository.UserRepository;
+import com.devstudy.testcodeprac.repository.UserTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 커서 이후에 생성/수정/상태변경/삭제된 사용자만 페이지 단위로 돌려준다.
+ * (updatedAt, id) 인덱스와 톰스톤 테이블을 각각 범위 조회한 뒤 같은 순서로 병합한다.
+ *
+ * updatedAt/deletedAt 은 커밋이 아니라 INSERT/UPDATE 시점에 찍힌다.
+ * 먼저 찍힌 변경이 나중에 커밋되면 커서가 이미 지나갔을 수 있으므로,
+ * 지금 - max-tx-lag 이후에 찍힌 변경은 돌려주지 않고 다음 요청으로 미룬다.
+ * max-tx-lag 는 가장 긴 쓰기 트랜잭션(과 서버 간 시계 차이)보다 길어야 한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class UserSyncService {
+
+  private static final int DEFAULT_PAGE_SIZE = 100;
+  private static final int MAX_PAGE_SIZE = 1000;
+
+  private static final Comparator<UserChange> CHANGE_ORDER =
+      Comparator.comparing(UserChange::getChangedAt).thenComparing(UserChange::getId);
+
+  private final UserRepository userRepository;
+  private final UserTombstoneRepository userTombstoneRepository;
+  private final Duration maxTxLag;
+
+  public UserSyncService(UserRepository userRepository,
+                         UserTombstoneRepository userTombstoneRepository,
+                         @Value("${user.sync.max-tx-lag-ms:10000}") long maxTxLagMillis) {
+    this.userRepository = userRepository;
+    this.userTombstoneRepository = userTombstoneRepository;
+    this.maxTxLag = Duration.ofMillis(maxTxLagMillis);
+  }
+
+  public UserChangesResponse getChangesSince(String since, Integer size) {
+    int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+    if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+      throw new InvalidInputException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하로 입력해주세요.");
+    }
+    ChangeCursor cursor = ChangeCursor.decode(since);
+    LocalDateTime until = LocalDateTime.now().minus(maxTxLag);
+
+    // 각 스트림에서 한 건씩 더 읽어두면 병합 결과만으로 다음 페이지 존재 여부를 알 수 있다
+    Limit limit = Limit.of(pageSize + 1);
+    List<UserChange> merged = new ArrayList<>();
+    userRepository.findChangedSince(cursor.getChangedAt(), cursor.getUserId(), until, limit)
+        .forEach(user -> merged.add(UserChange.upsert(user)));
+    userTombstoneRepository.findDeletedSince(cursor.getChangedAt(), cursor.getUserId(), until, limit)
+        .forEach(tombstone -> merged.add(UserChange.tombstone(tombstone)));
+    merged.sort(CHANGE_ORDER);
+
+    boolean hasMore = merged.size() > pageSize;
+    List<UserChange> page = hasMore ? merged.subList(0, pageSize) : merged;
+    ChangeCursor next = page.isEmpty()
+        ? cursor
+        : new ChangeCursor(page.get(page.size() - 1).getChangedAt(), page.get(page.size() - 1).getId());
+
+    return new UserChangesResponse(List.copyOf(page), next.encode(), hasMore);
+  }
+
+  /**
+   * updated_at 이 없는 기존 행은 커서 조회에 걸리지 않으므로 기동 시 현재 시각으로 채운다.
+   * (이미 동기화된 클라이언트도 한 번 더 받게 되지만, 빠지는 행은 없다)
+   */
+  @Transactional
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillUpdatedAt() {
+    int updated = userRepository.backfillUpdatedAt(LocalDateTime.now());
+    if (updated > 0) {
+      log.info("updated_at 이 없던 사용자 {}명을 변경분 동기화 대상에 넣었습니다.", updated);
+    }
+  }
+}
@@ -0,0 +1,200 @@
+package com.devstudy.testcodeprac.service;
+
+import com.devstudy.testcodeprac.domain.User;
+import com.devstudy.testcodeprac.domain.enums.UserChangeType;
+import com.devstudy.testcodeprac.event.UserChangedEvent;
+import com.devstudy.testcodeprac.repository.UserBulkUpdateRepository.NameAgeUpdate;
+import com.devstudy.testcodeprac.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이름/나이 수정 쓰기 지연 버퍼 (user.write-behind.enabled=true 일 때만 사용)
+ *
+ * 같은 사용자에 대한 짧은 시간 안의 수정은 하나로 합쳐지고,
+ * 전용 스레드가 flush 주기마다 한 트랜잭션에서 하나의 JDBC 배치로 UPDATE 한다.
+ * 아직 반영되지 않은 변경은 단건 조회(getUserById/getUserByEmail) 결과에 덮어써서 보여준다.
+ * 종료 시에는 웹 서버가 요청을 더 받지 않게 된 뒤에 남은 변경을 모두 반영한다.
+ */
+@Slf4j
+@Component
+public class UserWriteBuffer implements SmartLifecycle {
+
+  private final UserRepository userRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean enabled;
+  private final long flushIntervalMillis;
+
+  private final Map<Long, PendingUpdate> pending = new ConcurrentHashMap<>();
+  private final Map<Long, PendingUpdate> inFlight = new ConcurrentHashMap<>();
+  private ScheduledExecutorService writer;
+  private volatile boolean running;
+
+  public UserWriteBuffer(UserRepository userRepository,
+                         ApplicationEventPublisher eventPublisher,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${user.write-behind.enabled:false}") boolean enabled,
+                         @Value("${user.write-behind.flush-interval-ms:50}") long flushIntervalMillis) {
+    this.userRepository = userRepository;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.enabled = enabled;
+    this.flushIntervalMillis = flushIntervalMillis;
+  }
+
+  public boolean isEnabled() {
+    return enabled && running;
+  }
+
+  public void buffer(Long id, String name, Integer age) {
+    pending.merge(id, new PendingUpdate(name, age), PendingUpdate::then);
+  }
+
+  public boolean hasPending(Long id) {
+    return id != null && (pending.containsKey(id) || inFlight.containsKey(id));
+  }
+
+  /**
+   * 반영 대기 중인 변경을 덮어쓴 복사본을 돌려준다. (영속 엔티티는 건드리지 않는다)
+   */
+  public User overlay(User user) {
+    PendingUpdate update = inFlight.get(user.getId());
+    PendingUpdate newer = pending.get(user.getId());
+    if (newer != null) {
+      update = update == null ? newer : update.then(newer);
+    }
+    if (update == null) {
+      return user;
+    }
+
+    User copy = new User(user.getName(), user.getEmail(), user.getAge());
+    copy.setId(user.getId());
+    copy.setStatus(user.getStatus());
+    copy.setSuspendedUntil(user.getSuspendedUntil());
+    copy.setCreatedAt(user.getCreatedAt());
+    copy.setUpdatedAt(user.getUpdatedAt());
+    update.applyTo(copy);
+    return copy;
+  }
+
+  public void discard(Long id) {
+    pending.remove(id);
+  }
+
+  /**
+   * 쌓인 변경을 한 트랜잭션으로 반영한다.
+   * 엔티티 전체를 다시 쓰지 않고 이름/나이 컬럼만 배치 UPDATE 하므로,
+   * 그사이 커밋된 비활성화/정지/정지 해제를 예전 상태로 덮어쓰지 않는다.
+   */
+  public synchronized void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+    for (Long id : new ArrayList<>(pending.keySet())) {
+      PendingUpdate update = pending.get(id);
+      if (update == null) {
+        continue;
+      }
+      // inFlight 에 먼저 넣어야 옮기는 사이에도 hasPending 이 참으로 남아 조회가 DB 값을 보지 않는다
+      inFlight.put(id, update);
+      // 그사이 새 변경이 합쳐졌으면(이전 값을 포함한다) pending 에 남겨 다음 주기에 반영한다
+      pending.remove(id, update);
+    }
+
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        List<NameAgeUpdate> updates = new ArrayList<>(inFlight.size());
+        inFlight.forEach((id, update) -> updates.add(new NameAgeUpdate(id, update.name(), update.age())));
+        userRepository.updateNamesAndAges(updates, LocalDateTime.now());
+        // 삭제된 사용자는 조회되지 않으므로 이벤트도 나가지 않는다
+        for (User user : userRepository.findAllById(inFlight.keySet())) {
+          eventPublisher.publishEvent(UserChangedEvent.of(UserChangeType.UPDATED, user));
+        }
+      });
+    } catch (RuntimeException e) {
+      // 실패한 변경은 다음 주기에 다시 시도한다 (그사이 들어온 변경이 우선)
+      log.error("사용자 수정 일괄 반영 실패: {}건", inFlight.size(), e);
+      inFlight.forEach((id, update) -> pending.merge(id, update, (newer, failed) -> failed.then(newer)));
+    } finally {
+      inFlight.clear();
+    }
+  }
+
+  @Override
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    writer = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "user-write-behind");
+      thread.setDaemon(true);
+      return thread;
+    });
+    writer.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    running = true;
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (writer != null) {
+      writer.shutdown();
+      try {
+        writer.awaitTermination(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    flush();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    // 웹 서버(DEFAULT_PHASE - 2048)보다 늦게 멈춰야 종료 중 들어온 수정까지 반영된다
+    return SmartLifecycle.DEFAULT_PHASE - 4096;
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      log.error("사용자 수정 일괄 반영 중 오류", e);
+    }
+  }
+
+  private record PendingUpdate(String name, Integer age) {
+
+    PendingUpdate then(PendingUpdate newer) {
+      return new PendingUpdate(newer.name != null ? newer.name : name, newer.age != null ? newer.age : age);
+    }
+
+    void applyTo(User user) {
+      if (name != null) {
+        user.setName(name);
+      }
+      if (age != null) {
+        user.setAge(age);
+      }
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.devstudy.testcodeprac.config.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트에서 실행된 SQL 수를 고정하기 위한 도우미
+ *
+ * SqlStatementAssertions.assertStatementCount(1, () -> userRepository.findByEmail("hong@test.com"));
+ */
+public final class SqlStatementAssertions {
+
+  private SqlStatementAssertions() {
+  }
+
+  public static SqlStatementScope countStatements(Runnable action) {
+    try (SqlStatementScope scope = SqlStatementTracker.open("test")) {
+      action.run();
+      return scope;
+    }
+  }
+
+  public static SqlStatementScope assertStatementCount(int expected, Runnable action) {
+    SqlStatementScope scope = countStatements(action);
+    assertThat(scope.getStatementCount())
+        .as("실행된 SQL 수")
+        .isEqualTo(expected);
+    return scope;
+  }
+}
@@ -0,0 +1,61 @@
+package com.devstudy.testcodeprac.config.sql;
+
+import com.devstudy.testcodeprac.domain.User;
+import com.devstudy.testcodeprac.repository.UserRepository;
+import com.devstudy.testcodeprac.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 서비스 메서드 단위 집계가 커밋 시점의 SQL 까지 포함하는지 확인한다.
+ * (테스트 트랜잭션 없이 실행해야 서비스 메서드 안에서 커밋된다)
+ */
+@SpringBootTest
+class SqlStatementBudgetAspectTest {
+
+  @Autowired
+  private UserService userService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @MockitoSpyBean
+  private SqlStatementBudget budget;
+
+  private Long userId;
+
+  @AfterEach
+  void tearDown() {
+    if (userId != null) {
+      userRepository.deleteById(userId);
+    }
+  }
+
+  @Test
+  @DisplayName("deactivateUser 는 조회 1건과 커밋 시 UPDATE 1건으로 집계된다")
+  void deactivateUser_CountsStatementsFlushedAtCommit() {
+    // Given
+    userId = userRepository.save(new User("홍길동", "aspect-budget@test.com", 25)).getId();
+
+    // When
+    userService.deactivateUser(userId);
+
+    // Then
+    ArgumentCaptor<SqlStatementScope> scopes = ArgumentCaptor.forClass(SqlStatementScope.class);
+    verify(budget, atLeastOnce()).checkMethod(scopes.capture());
+    SqlStatementScope scope = scopes.getAllValues().stream()
+        .filter(s -> s.getName().equals("UserService.deactivateUser(..)"))
+        .findFirst()
+        .orElseThrow();
+    assertThat(scope.getStatementCount()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,150 @@
+package com.devstudy.testcodeprac.event;
+
+import com.devstudy.testcodeprac.domain.User;
+import com.devstudy.testcodeprac.domain.enums.UserChangeType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserChangeStreamTest {
+
+  private static final int WRITERS = 8;
+  private static final int EVENTS_PER_WRITER = 500;
+
+  private final UserChangeStream stream = new UserChangeStream(16, WRITERS * EVENTS_PER_WRITER, 60_000L, 1, 200L);
+
+  @AfterEach
+  void tearDown() {
+    stream.shutdown();
+  }
+
+  @Test
+  @DisplayName("동시에 커밋된 변경도 구독자에게는 시퀀스 순서대로 빠짐없이 전달된다")
+  void onUserChanged_ConcurrentCommits_DeliveredInSequenceOrder() throws Exception {
+    // Given
+    RecordingEmitter emitter = new RecordingEmitter(WRITERS * EVENTS_PER_WRITER);
+    stream.subscribe(null, emitter);
+    User user = new User("홍길동", "hong@test.com", 25);
+    user.setId(1L);
+
+    // When
+    ExecutorService writers = Executors.newFixedThreadPool(WRITERS);
+    CountDownLatch start = new CountDownLatch(1);
+    for (int i = 0; i < WRITERS; i++) {
+      writers.execute(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        for (int j = 0; j < EVENTS_PER_WRITER; j++) {
+          stream.onUserChanged(UserChangedEvent.of(UserChangeType.UPDATED, user));
+        }
+      });
+    }
+    start.countDown();
+    writers.shutdown();
+    assertThat(writers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(emitter.received.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // Then
+    List<Long> ids = emitter.ids;
+    assertThat(ids).hasSize(WRITERS * EVENTS_PER_WRITER);
+    for (int i = 0; i < ids.size(); i++) {
+      assertThat(ids.get(i)).isEqualTo(i + 1L);
+    }
+  }
+
+  @Test
+  @DisplayName("전송이 멈춘 구독자는 다른 구독자의 전송을 막지 않고 시간 초과로 끊긴다")
+  void onUserChanged_StalledSubscriber_DoesNotBlockOthers() throws Exception {
+    // Given
+    StalledEmitter stalled = new StalledEmitter();
+    RecordingEmitter healthy = new RecordingEmitter(2);
+    stream.subscribe(null, stalled);
+    User user = new User("홍길동", "hong@test.com", 25);
+    user.setId(1L);
+
+    // When
+    stream.onUserChanged(UserChangedEvent.of(UserChangeType.UPDATED, user));
+    // 하나뿐인 기본 전송 스레드가 멈춘 구독자에게 잡힌 뒤에 구독한다
+    assertThat(stalled.sending.await(5, TimeUnit.SECONDS)).isTrue();
+    stream.subscribe(null, healthy);
+    stream.onUserChanged(UserChangedEvent.of(UserChangeType.UPDATED, user));
+    stream.onUserChanged(UserChangedEvent.of(UserChangeType.UPDATED, user));
+
+    // Then
+    try {
+      assertThat(healthy.received.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(healthy.ids).containsExactly(2L, 3L);
+      assertThat(stalled.failed.await(5, TimeUnit.SECONDS)).isTrue();
+    } finally {
+      stalled.release.countDown();
+    }
+  }
+
+  /**
+   * 보낸 이벤트의 id 만 기록하는 emitter
+   */
+  private static class RecordingEmitter extends SseEmitter {
+
+    private static final Pattern ID = Pattern.compile("^id:(\\d+)", Pattern.MULTILINE);
+
+    private final List<Long> ids = new CopyOnWriteArrayList<>();
+    private final CountDownLatch received;
+
+    RecordingEmitter(int expected) {
+      this.received = new CountDownLatch(expected);
+    }
+
+    @Override
+    public void send(SseEventBuilder builder) {
+      for (var data : builder.build()) {
+        Matcher matcher = ID.matcher(String.valueOf(data.getData()));
+        if (matcher.find()) {
+          ids.add(Long.valueOf(matcher.group(1)));
+          received.countDown();
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * 첫 전송에서 풀어줄 때까지 멈춰 있는 emitter (응답을 읽지 않는 클라이언트)
+   */
+  private static class StalledEmitter extends SseEmitter {
+
+    private final CountDownLatch sending = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch failed = new CountDownLatch(1);
+
+    @Override
+    public void send(SseEventBuilder builder) {
+      sending.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @Override
+    public void completeWithError(Throwable ex) {
+      failed.countDown();
+    }
+  }
+}
@@ -1,16 +1,22 @@
 package com.devstudy.testcodeprac.repository;
 
+import com.devstudy.testcodeprac.config.sql.SqlStatementScope;
 import com.devstudy.testcodeprac.domain.User;
 import com.devstudy.testcodeprac.domain.enums.UserStatus;
+import com.devstudy.testcodeprac.repository.UserBulkUpdateRepository.NameAgeUpdate;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.List;
 
+import static com.devstudy.testcodeprac.config.sql.SqlStatementAssertions.assertStatementCount;
+import static com.devstudy.testcodeprac.config.sql.SqlStatementAssertions.countStatements;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
@@ -196,4 +202,90 @@ class UserRepositoryTest {
     assertThat(userRepository.countByStatus(UserStatus.INACTIVE)).isEqualTo(1);
     assertThat(userRepository.countByStatus(UserStatus.SUSPENDED)).isEqualTo(0);
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("커서 이후에 변경된 사용자들을 변경 순서대로 조회")
+  void findChangedSince_Test() {
+    // Given
+    User user1 = new User("홍길동", "hong@test.com", 25);
+    User user2 = new User("김철수", "kim@test.com", 30);
+    User user3 = new User("이영희", "lee@test.com", 28);
+
+    entityManager.persist(user1);
+    entityManager.persist(user2);
+    entityManager.persist(user3);
+    entityManager.flush();
+
+    // When
+    List<User> firstPage = userRepository.findChangedSince(LocalDateTime.of(1970, 1, 1, 0, 0), 0L,
+        LocalDateTime.now(), Limit.of(2));
+    User last = firstPage.get(firstPage.size() - 1);
+    List<User> secondPage = userRepository.findChangedSince(last.getUpdatedAt(), last.getId(),
+        LocalDateTime.now(), Limit.of(2));
+
+    // Then
+    assertThat(firstPage).extracting(User::getName).containsExactly("홍길동", "김철수");
+    assertThat(secondPage).extracting(User::getName).containsExactly("이영희");
+  }
+
+  @Test
+  @DisplayName("이메일 조회는 SQL 한 번으로 끝난다")
+  void findByEmail_IssuesSingleStatement() {
+    // Given
+    entityManager.persistAndFlush(new User("홍길동", "hong@test.com", 25));
+    entityManager.clear();
+
+    // When & Then
+    assertStatementCount(1, () -> userRepository.findByEmail("hong@test.com"));
+  }
+
+  @Test
+  @DisplayName("같은 모양의 쿼리가 반복되면 N+1 로 감지한다")
+  void repeatedLookups_DetectedAsSameShape() {
+    // Given
+    User user1 = entityManager.persist(new User("홍길동", "hong@test.com", 25));
+    User user2 = entityManager.persist(new User("김철수", "kim@test.com", 30));
+    User user3 = entityManager.persist(new User("이영희", "lee@test.com", 28));
+    entityManager.flush();
+    entityManager.clear();
+
+    // When
+    SqlStatementScope scope = countStatements(() -> List.of(user1.getId(), user2.getId(), user3.getId())
+        .forEach(userRepository::findById));
+
+    // Then
+    assertThat(scope.getStatementCount()).isEqualTo(3);
+    assertThat(scope.getRepeatedShapes(3)).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("이름/나이 일괄 수정은 다른 컬럼을 건드리지 않고 null 인 값은 유지한다")
+  void updateNamesAndAges_KeepsOtherColumns() {
+    // Given
+    User user1 = entityManager.persist(new User("홍길동", "hong@test.com", 25));
+    User user2 = entityManager.persist(new User("김철수", "kim@test.com", 30));
+    // 수정 내용을 모은 뒤에 다른 트랜잭션이 상태를 바꿨다고 가정
+    user1.deactivate();
+    entityManager.flush();
+    entityManager.clear();
+    LocalDateTime updatedAt = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    // When
+    int[] updated = userRepository.updateNamesAndAges(List.of(
+        new NameAgeUpdate(user1.getId(), "홍길순", null),
+        new NameAgeUpdate(user2.getId(), null, 31)), updatedAt);
+    entityManager.clear();
+
+    // Then
+    User found1 = userRepository.findById(user1.getId()).orElseThrow();
+    User found2 = userRepository.findById(user2.getId()).orElseThrow();
+    assertThat(updated).hasSize(2);
+    assertThat(found1.getName()).isEqualTo("홍길순");
+    assertThat(found1.getAge()).isEqualTo(25);
+    assertThat(found1.getStatus()).isEqualTo(UserStatus.INACTIVE);
+    assertThat(found1.getUpdatedAt()).isEqualTo(updatedAt);
+    assertThat(found2.getName()).isEqualTo("김철수");
+    assertThat(found2.getAge()).isEqualTo(31);
+    assertThat(found2.getUpdatedAt()).isEqualTo(updatedAt);
+  }
+}
@@ -0,0 +1,55 @@
+package com.devstudy.testcodeprac.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuspensionTimerWheelTest {
+
+  private static final long TICK = 1000L;
+
+  @Test
+  @DisplayName("만료 시각이 지난 항목만 꺼낸다")
+  void advance_ReturnsOnlyDueEntries() {
+    // Given
+    SuspensionTimerWheel wheel = new SuspensionTimerWheel(TICK, 60, 0L);
+    wheel.schedule(1L, 3_000L);
+    wheel.schedule(2L, 5_500L);
+    wheel.schedule(3L, 10_000L);
+
+    // When & Then
+    assertThat(wheel.advance(2_999L)).isEmpty();
+    assertThat(wheel.advance(3_000L)).containsExactly(1L);
+    assertThat(wheel.advance(6_000L)).containsExactly(2L);
+    assertThat(wheel.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("한 바퀴보다 먼 만료는 해당 바퀴가 되어야 꺼낸다")
+  void advance_KeepsEntriesForLaterRounds() {
+    // Given
+    SuspensionTimerWheel wheel = new SuspensionTimerWheel(TICK, 10, 0L);
+    wheel.schedule(1L, 15_000L);  // 슬롯 5, 두 번째 바퀴
+
+    // When & Then
+    assertThat(wheel.advance(5_000L)).isEmpty();
+    assertThat(wheel.advance(14_000L)).isEmpty();
+    assertThat(wheel.advance(15_000L)).containsExactly(1L);
+  }
+
+  @Test
+  @DisplayName("이미 지난 만료나 오래 밀린 advance 도 빠짐없이 처리한다")
+  void advance_HandlesOverdueAndLongGaps() {
+    // Given
+    SuspensionTimerWheel wheel = new SuspensionTimerWheel(TICK, 10, 100_000L);
+    wheel.schedule(1L, 50_000L);   // 이미 지남
+    wheel.schedule(2L, 103_000L);
+    wheel.schedule(3L, 107_000L);
+
+    // When & Then - 한 바퀴(10초) 넘게 밀려도 모두 나온다
+    assertThat(wheel.advance(101_000L)).containsExactly(1L);
+    assertThat(wheel.advance(150_000L)).containsExactlyInAnyOrder(2L, 3L);
+    assertThat(wheel.size()).isZero();
+  }
+}
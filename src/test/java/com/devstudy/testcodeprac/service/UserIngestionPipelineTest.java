@@ -0,0 +1,93 @@
+package com.devstudy.testcodeprac.service;
+
+import com.devstudy.testcodeprac.config.exception.DuplicateEmailException;
+import com.devstudy.testcodeprac.config.exception.InvalidEmailException;
+import com.devstudy.testcodeprac.domain.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserIngestionPipelineTest {
+
+  @Mock
+  private UserService userService;
+
+  private UserIngestionPipeline pipeline;
+
+  @BeforeEach
+  void setUp() {
+    pipeline = new UserIngestionPipeline(userService, 2, 10, 10, 10, 20);
+    pipeline.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    pipeline.stop();
+  }
+
+  @Test
+  @DisplayName("검증을 통과한 가입은 저장되고 생성된 사용자로 완료된다")
+  void submit_Success() throws Exception {
+    // Given
+    User saved = new User("홍길동", "hong@test.com", 25);
+    saved.setId(1L);
+    when(userService.createValidatedUsers(anyList())).thenReturn(List.of(UserCreationResult.success(saved)));
+
+    // When
+    User result = pipeline.submit("홍길동", "hong@test.com", 25).get(5, TimeUnit.SECONDS);
+
+    // Then
+    assertThat(result.getId()).isEqualTo(1L);
+    verify(userService).validateNewUser("홍길동", "hong@test.com", 25);
+    verify(userService, timeout(1000)).sendWelcomeEmail(saved);
+  }
+
+  @Test
+  @DisplayName("검증에 실패한 가입은 저장 단계로 가지 않고 같은 예외로 완료된다")
+  void submit_ValidationFailure() {
+    // Given
+    doThrow(new InvalidEmailException("유효하지 않은 이메일 형식입니다: invalid-email"))
+        .when(userService).validateNewUser("홍길동", "invalid-email", 25);
+
+    // When
+    CompletableFuture<User> future = pipeline.submit("홍길동", "invalid-email", 25);
+
+    // Then
+    assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(InvalidEmailException.class);
+    verify(userService, never()).createValidatedUsers(anyList());
+  }
+
+  @Test
+  @DisplayName("배치 저장이 통째로 실패하면 한 건씩 createUser 로 다시 처리한다")
+  void submit_BatchFailure_FallsBackToSingleCreate() {
+    // Given
+    when(userService.createValidatedUsers(anyList())).thenThrow(new IllegalStateException("unique violation"));
+    when(userService.createUser("홍길동", "hong@test.com", 25))
+        .thenThrow(new DuplicateEmailException("이미 존재하는 이메일입니다: hong@test.com"));
+
+    // When
+    CompletableFuture<User> future = pipeline.submit("홍길동", "hong@test.com", 25);
+
+    // Then
+    assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(DuplicateEmailException.class);
+    // 롤백된 배치에 대해서는 환영 이메일을 보내지 않는다
+    verify(userService, never()).sendWelcomeEmail(any(User.class));
+  }
+}
@@ -0,0 +1,111 @@
+package com.devstudy.testcodeprac.service;
+
+import com.devstudy.testcodeprac.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserMissCacheTest {
+
+  @Test
+  @DisplayName("기록한 ID 와 이메일은 가입하면 지워진다")
+  void invalidate_RemovesIdAndEmail() {
+    // Given
+    UserMissCache cache = new UserMissCache(true, 60_000L, 100);
+    cache.markMissingId(1L, cache.generation());
+    cache.markMissingEmail("hong@test.com", cache.generation());
+    User user = new User("홍길동", "hong@test.com", 25);
+    user.setId(1L);
+
+    // When
+    cache.invalidate(user);
+
+    // Then
+    assertThat(cache.isMissingId(1L)).isFalse();
+    assertThat(cache.isMissingEmail("hong@test.com")).isFalse();
+  }
+
+  @Test
+  @DisplayName("조회 도중 가입이 있었으면 없음을 기록하지 않는다")
+  void markMissing_SkipsWhenGenerationChanged() {
+    // Given
+    UserMissCache cache = new UserMissCache(true, 60_000L, 100);
+    long generation = cache.generation();
+    User user = new User("홍길동", "hong@test.com", 25);
+    user.setId(1L);
+    cache.invalidate(user);
+
+    // When
+    cache.markMissingEmail("hong@test.com", generation);
+
+    // Then
+    assertThat(cache.isMissingEmail("hong@test.com")).isFalse();
+  }
+
+  @Test
+  @DisplayName("TTL 이 지나면 다시 DB 를 조회하도록 없음 기록이 사라진다")
+  void isMissing_ExpiresAfterTtl() throws InterruptedException {
+    // Given
+    UserMissCache cache = new UserMissCache(true, 10L, 100);
+    cache.markMissingId(1L, cache.generation());
+    assertThat(cache.isMissingId(1L)).isTrue();
+
+    // When
+    Thread.sleep(30L);
+
+    // Then
+    assertThat(cache.isMissingId(1L)).isFalse();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("항목 수가 상한에 닿으면 비우고 새로 기록한다")
+  void markMissing_BoundedSize() {
+    // Given
+    UserMissCache cache = new UserMissCache(true, 60_000L, 3);
+    for (long id = 1; id <= 3; id++) {
+      cache.markMissingId(id, cache.generation());
+    }
+
+    // When
+    cache.markMissingId(4L, cache.generation());
+
+    // Then
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.isMissingId(4L)).isTrue();
+  }
+
+  @Test
+  @DisplayName("대소문자만 다른 이메일로 가입해도 없음 기록이 지워진다")
+  void invalidate_IgnoresEmailCase() {
+    // Given
+    UserMissCache cache = new UserMissCache(true, 60_000L, 100);
+    cache.markMissingEmail(" Hong@Test.com ", cache.generation());
+    assertThat(cache.isMissingEmail("Hong@Test.com")).isTrue();
+    User user = new User("홍길동", "hong@test.com", 25);
+    user.setId(1L);
+
+    // When
+    cache.invalidate(user);
+
+    // Then
+    assertThat(cache.isMissingEmail("Hong@Test.com")).isFalse();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("없음은 조회한 이메일과 대소문자까지 같을 때만 돌려준다")
+  void isMissingEmail_OnlyForSameCase() {
+    // Given
+    UserMissCache cache = new UserMissCache(true, 60_000L, 100);
+
+    // When
+    cache.markMissingEmail("KIM@test.com", cache.generation());
+
+    // Then
+    // 대소문자를 구분하는 DB 에서는 kim@test.com 이 있을 수 있으므로 DB 에 묻게 한다
+    assertThat(cache.isMissingEmail("KIM@test.com")).isTrue();
+    assertThat(cache.isMissingEmail("kim@test.com")).isFalse();
+  }
+}
@@ -0,0 +1,115 @@
+package com.devstudy.testcodeprac.service;
+
+import com.devstudy.testcodeprac.config.exception.UserNotFoundException;
+import com.devstudy.testcodeprac.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.function.IntConsumer;
+
+import static com.devstudy.testcodeprac.config.sql.SqlStatementAssertions.assertStatementCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * 없는 사용자 조회(miss) 경로
+ * 처리량 측정은 benchmark 태그로 분리되어 있어 ./gradlew benchmark 로만 실행된다.
+ */
+@DataJpaTest
+@Import({UserService.class, UserMissCache.class})
+class UserMissPathTest {
+
+  private static final int WARMUP = 2_000;
+  private static final int ITERATIONS = 20_000;
+
+  @Autowired
+  private UserService userService;
+
+  @MockitoBean
+  private EmailService emailService;
+
+  @MockitoBean
+  private UserWriteBuffer userWriteBuffer;
+
+  @Test
+  @DisplayName("한 번 찾지 못한 ID 는 다시 조회해도 SQL 을 실행하지 않는다")
+  void getUserById_RepeatedMiss_IssuesNoStatements() {
+    // Given
+    assertThatThrownBy(() -> userService.getUserById(999_999L))
+        .isInstanceOf(UserNotFoundException.class)
+        .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+
+    // When & Then
+    assertStatementCount(0, () -> lookupById(999_999L));
+  }
+
+  @Test
+  @DisplayName("없던 이메일로 가입하면 바로 조회된다")
+  void createUser_InvalidatesCachedMiss() {
+    // Given
+    when(emailService.isEmailValid(anyString())).thenReturn(true);
+    assertThatThrownBy(() -> userService.getUserByEmail("new@test.com"))
+        .isInstanceOf(UserNotFoundException.class);
+
+    // When
+    User created = userService.createUser("홍길동", "new@test.com", 25);
+
+    // Then
+    assertThat(userService.getUserByEmail("new@test.com").getId()).isEqualTo(created.getId());
+    assertThat(userService.getUserById(created.getId()).getEmail()).isEqualTo("new@test.com");
+  }
+
+  @Test
+  @Tag("benchmark")
+  @DisplayName("없는 ID 조회 처리량: DB 조회 vs 캐시, 예외 생성 비용")
+  void missPathThroughput() {
+    // 매번 다른 ID 는 처음 보는 miss 라 DB 를 조회하고, 같은 ID 를 반복하면 캐시에 걸린다
+    double dbPerSecond = measure(i -> lookupById(2_000_000L + i));
+    double cachedPerSecond = measure(i -> lookupById(1_000_000L + i % 100));
+    double stackTracePerSecond = measureExceptions(true);
+    double stacklessPerSecond = measureExceptions(false);
+
+    System.out.printf("miss path (DB 조회)      : %,.0f ops/s%n", dbPerSecond);
+    System.out.printf("miss path (캐시)         : %,.0f ops/s%n", cachedPerSecond);
+    System.out.printf("예외 생성 (스택 트레이스): %,.0f ops/s%n", stackTracePerSecond);
+    System.out.printf("예외 생성 (스택 생략)    : %,.0f ops/s%n", stacklessPerSecond);
+  }
+
+  private void lookupById(long id) {
+    try {
+      userService.getUserById(id);
+    } catch (UserNotFoundException ignored) {
+      // miss 경로만 확인한다
+    }
+  }
+
+  private static double measure(IntConsumer lookup) {
+    for (int i = 0; i < WARMUP; i++) {
+      lookup.accept(ITERATIONS + i);
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      lookup.accept(i);
+    }
+    return ITERATIONS / ((System.nanoTime() - start) / 1e9);
+  }
+
+  private static double measureExceptions(boolean withStackTrace) {
+    int created = 0;
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS * 10; i++) {
+      RuntimeException e = withStackTrace
+          ? new RuntimeException("사용자를 찾을 수 없습니다. ID: " + i)
+          : new UserNotFoundException("사용자를 찾을 수 없습니다. ID: " + i);
+      created += e.getMessage().isEmpty() ? 0 : 1;
+    }
+    return created / ((System.nanoTime() - start) / 1e9);
+  }
+}
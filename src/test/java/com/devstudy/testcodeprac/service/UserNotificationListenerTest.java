@@ -0,0 +1,70 @@
+package com.devstudy.testcodeprac.service;
+
+import com.devstudy.testcodeprac.domain.User;
+import com.devstudy.testcodeprac.domain.enums.UserChangeType;
+import com.devstudy.testcodeprac.event.UserChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserNotificationListenerTest {
+
+  @Mock
+  private EmailService emailService;
+
+  @InjectMocks
+  private UserNotificationListener listener;
+
+  @Test
+  @DisplayName("재활성화가 커밋되면 재활성화 이메일을 보낸다")
+  void onUserChanged_SendsReactivationEmail() {
+    // Given
+    User user = new User("홍길동", "hong@test.com", 25);
+    user.setId(1L);
+
+    // When
+    listener.onUserChanged(UserChangedEvent.of(UserChangeType.REACTIVATED, user));
+
+    // Then
+    verify(emailService).sendReactivationEmail("hong@test.com", "홍길동");
+  }
+
+  @Test
+  @DisplayName("다른 변경에는 이메일을 보내지 않는다")
+  void onUserChanged_IgnoresOtherChanges() {
+    // Given
+    User user = new User("홍길동", "hong@test.com", 25);
+    user.setId(1L);
+
+    // When
+    listener.onUserChanged(UserChangedEvent.of(UserChangeType.SUSPENDED, user));
+    listener.onUserChanged(UserChangedEvent.of(UserChangeType.DEACTIVATED, user));
+
+    // Then
+    verify(emailService, never()).sendReactivationEmail(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("발송 실패는 호출한 쪽으로 전파되지 않는다")
+  void onUserChanged_SwallowsEmailFailure() {
+    // Given
+    User user = new User("홍길동", "hong@test.com", 25);
+    user.setId(1L);
+    doThrow(new IllegalStateException("SMTP 오류"))
+        .when(emailService).sendReactivationEmail("hong@test.com", "홍길동");
+
+    // When & Then
+    assertThatCode(() -> listener.onUserChanged(UserChangedEvent.of(UserChangeType.REACTIVATED, user)))
+        .doesNotThrowAnyException();
+  }
+}
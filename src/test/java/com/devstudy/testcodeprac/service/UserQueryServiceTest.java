@@ -0,0 +1,119 @@
+package com.devstudy.testcodeprac.service;
+
+import com.devstudy.testcodeprac.config.exception.InvalidInputException;
+import com.devstudy.testcodeprac.domain.User;
+import com.devstudy.testcodeprac.domain.enums.UserStatus;
+import com.devstudy.testcodeprac.dto.UserQueryPage;
+import com.devstudy.testcodeprac.dto.UserQueryRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(UserQueryService.class)
+class UserQueryServiceTest {
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private UserQueryService userQueryService;
+
+  @BeforeEach
+  void setUp() {
+    User inactive = new User("홍영희", "hong2@test.com", 23);
+    inactive.setStatus(UserStatus.INACTIVE);
+
+    entityManager.persist(new User("홍길동", "hong1@test.com", 25));
+    entityManager.persist(inactive);
+    entityManager.persist(new User("김철수", "kim@test.com", 30));
+    entityManager.persist(new User("홍진호", "hong3@test.com", 35));
+    entityManager.persist(new User("이홍", "lee@test.com", 17));
+    entityManager.flush();
+  }
+
+  @Test
+  @DisplayName("상태, 나이, 이름 접두어 조건을 함께 적용한다")
+  void query_CombinesFilters() {
+    // Given
+    UserQueryRequest request = new UserQueryRequest();
+    request.setStatus(List.of(UserStatus.ACTIVE));
+    request.setMinAge(18);
+    request.setNamePrefix("홍");
+    request.setSort("age");
+    request.setDirection("desc");
+
+    // When
+    UserQueryPage page = userQueryService.query(request);
+
+    // Then
+    assertThat(page.getUsers()).extracting(User::getName).containsExactly("홍진호", "홍길동");
+    assertThat(page.isHasMore()).isFalse();
+  }
+
+  @Test
+  @DisplayName("키셋 커서로 다음 페이지를 이어서 조회한다")
+  void query_KeysetPaging() {
+    // Given
+    UserQueryRequest request = new UserQueryRequest();
+    request.setNameContains("홍");
+    request.setSort("name");
+    request.setSize(2);
+
+    // When
+    UserQueryPage first = userQueryService.query(request);
+    request.setCursor(first.getNextCursor());
+    UserQueryPage second = userQueryService.query(request);
+
+    // Then
+    assertThat(first.getUsers()).extracting(User::getName).containsExactly("이홍", "홍길동");
+    assertThat(first.isHasMore()).isTrue();
+    assertThat(second.getUsers()).extracting(User::getName).containsExactly("홍영희", "홍진호");
+    assertThat(second.isHasMore()).isFalse();
+    assertThat(second.getNextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("같은 조건 모양은 만들어 둔 쿼리를 재사용한다")
+  void query_ReusesCompiledQueryForSameShape() {
+    // Given
+    UserQueryRequest adults = new UserQueryRequest();
+    adults.setMinAge(18);
+    UserQueryRequest seniors = new UserQueryRequest();
+    seniors.setMinAge(30);
+
+    // When
+    userQueryService.query(adults);
+    int compiled = userQueryService.getCompiledQueryCount();
+    List<User> result = userQueryService.query(seniors).getUsers();
+
+    // Then
+    assertThat(userQueryService.getCompiledQueryCount()).isEqualTo(compiled);
+    assertThat(result).extracting(User::getName).containsExactly("김철수", "홍진호");
+  }
+
+  @Test
+  @DisplayName("다른 정렬로 만든 커서를 쓰면 예외가 발생한다")
+  void query_CursorFromOtherSort_ThrowsException() {
+    // Given
+    UserQueryRequest request = new UserQueryRequest();
+    request.setSize(1);
+    String cursor = userQueryService.query(request).getNextCursor();
+
+    request.setSort("age");
+    request.setCursor(cursor);
+
+    // When & Then
+    assertThatThrownBy(() -> userQueryService.query(request))
+        .isInstanceOf(InvalidInputException.class);
+  }
+}
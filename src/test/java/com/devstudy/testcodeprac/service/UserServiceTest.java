@@ -1,22 +1,31 @@
 package com.devstudy.testcodeprac.service;
 
 import com.devstudy.testcodeprac.domain.User;
+import com.devstudy.testcodeprac.domain.enums.UserChangeType;
 import com.devstudy.testcodeprac.domain.enums.UserStatus;
 import com.devstudy.testcodeprac.config.exception.DuplicateEmailException;
 import com.devstudy.testcodeprac.config.exception.InvalidEmailException;
 import com.devstudy.testcodeprac.config.exception.InvalidInputException;
 import com.devstudy.testcodeprac.config.exception.UserNotFoundException;
+import com.devstudy.testcodeprac.dto.UserBatchLookupResponse;
+import com.devstudy.testcodeprac.dto.UserLookupResult;
+import com.devstudy.testcodeprac.event.UserChangedEvent;
 import com.devstudy.testcodeprac.repository.UserRepository;
+import com.devstudy.testcodeprac.repository.UserTombstoneRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -28,9 +37,21 @@ class UserServiceTest {
   @Mock
   private UserRepository userRepository;  // Mock 객체
 
+  @Mock
+  private UserTombstoneRepository userTombstoneRepository;  // Mock 객체
+
   @Mock
   private EmailService emailService;      // Mock 객체
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;  // Mock 객체
+
+  @Mock
+  private UserWriteBuffer userWriteBuffer;  // Mock 객체
+
+  @Mock
+  private UserMissCache userMissCache;  // Mock 객체
+
   @InjectMocks
   private UserService userService;        // Mock들이 주입될 실제 객체
 
@@ -294,4 +315,247 @@ class UserServiceTest {
         .containsExactly("홍길동", "홍영희");
     verify(userRepository).findByNameContaining(searchName);
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("사용자 비활성화 시 변경 이벤트가 발행된다")
+  void deactivateUser_PublishesChangeEvent() {
+    // Given
+    Long userId = 1L;
+    User user = new User("홍길동", "hong@test.com", 25);
+    user.setId(userId);
+
+    when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+    // When
+    userService.deactivateUser(userId);
+
+    // Then
+    ArgumentCaptor<UserChangedEvent> captor = ArgumentCaptor.forClass(UserChangedEvent.class);
+    verify(eventPublisher).publishEvent(captor.capture());
+    assertThat(captor.getValue().getType()).isEqualTo(UserChangeType.DEACTIVATED);
+    assertThat(captor.getValue().getUserId()).isEqualTo(userId);
+    assertThat(captor.getValue().getStatus()).isEqualTo(UserStatus.INACTIVE);
+  }
+
+  @Test
+  @DisplayName("정지 중인 사용자를 비활성화하면 정지 해제 시각이 지워진다")
+  void deactivateUser_ClearsSuspendedUntil() {
+    // Given
+    Long userId = 1L;
+    User user = new User("홍길동", "hong@test.com", 25);
+    user.setId(userId);
+    user.suspend(LocalDateTime.now().plusHours(1));
+
+    when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+    // When
+    userService.deactivateUser(userId);
+
+    // Then
+    assertThat(user.getStatus()).isEqualTo(UserStatus.INACTIVE);
+    assertThat(user.getSuspendedUntil()).isNull();
+  }
+
+  @Test
+  @DisplayName("ID/이메일 일괄 조회 시 요청 순서대로 결과를 돌려주고 없는 키는 표시만 한다")
+  void lookupUsers_KeepsRequestOrderWithNotFoundMarkers() {
+    // Given
+    User user1 = new User("홍길동", "hong@test.com", 25);
+    user1.setId(1L);
+    User user2 = new User("김철수", "kim@test.com", 30);
+    user2.setId(2L);
+
+    when(userRepository.findAllById(List.of(2L, 999L, 1L))).thenReturn(List.of(user1, user2));
+    when(userRepository.findByEmailIn(List.of("kim@test.com", "none@test.com"))).thenReturn(List.of(user2));
+
+    // When
+    UserBatchLookupResponse result = userService.lookupUsers(
+        List.of(2L, 999L, 1L, 2L), List.of("kim@test.com", "none@test.com"));
+
+    // Then
+    assertThat(result.getIds()).extracting(UserLookupResult::getKey).containsExactly(2L, 999L, 1L, 2L);
+    assertThat(result.getIds()).extracting(UserLookupResult::isFound).containsExactly(true, false, true, true);
+    assertThat(result.getIds().get(0).getUser().getName()).isEqualTo("김철수");
+    assertThat(result.getEmails()).extracting(UserLookupResult::isFound).containsExactly(true, false);
+
+    verify(userRepository, never()).findById(anyLong());
+  }
+
+  @Test
+  @DisplayName("일괄 조회는 대소문자만 다른 이메일도 찾은 것으로 표시한다")
+  void lookupUsers_MatchesEmailIgnoringCase() {
+    // Given
+    User user = new User("김철수", "kim@test.com", 30);
+    user.setId(2L);
+    // 대소문자를 무시하는 콜레이션에서는 요청과 다른 대소문자로 저장된 행이 돌아온다
+    when(userRepository.findByEmailIn(List.of("KIM@Test.com"))).thenReturn(List.of(user));
+
+    // When
+    UserBatchLookupResponse result = userService.lookupUsers(List.of(), List.of(" KIM@Test.com "));
+
+    // Then
+    assertThat(result.getEmails()).extracting(UserLookupResult::isFound).containsExactly(true);
+    assertThat(result.getEmails().get(0).getKey()).isEqualTo(" KIM@Test.com ");
+    assertThat(result.getEmails().get(0).getUser().getId()).isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("대소문자만 다른 사용자가 여럿이면 정확히 일치하는 사용자를 돌려준다")
+  void lookupUsers_PrefersExactEmailMatch() {
+    // Given
+    User lower = new User("김철수", "kim@test.com", 30);
+    lower.setId(2L);
+    User upper = new User("김영희", "KIM@test.com", 28);
+    upper.setId(3L);
+    // 대소문자를 구분하는 콜레이션에서는 두 사용자가 따로 존재할 수 있다
+    when(userRepository.findByEmailIn(List.of("KIM@test.com", "kim@test.com", "Kim@Test.com")))
+        .thenReturn(List.of(lower, upper));
+
+    // When
+    UserBatchLookupResponse result = userService.lookupUsers(List.of(),
+        List.of("KIM@test.com", "kim@test.com", "Kim@Test.com"));
+
+    // Then
+    assertThat(result.getEmails()).extracting(lookup -> lookup.getUser().getId())
+        .containsExactly(3L, 2L, 2L);
+  }
+
+  @Test
+  @DisplayName("일괄 조회 키가 너무 많으면 예외가 발생한다")
+  void lookupUsers_TooManyKeys_ThrowsException() {
+    // Given
+    List<Long> ids = LongStream.rangeClosed(1, 5001).boxed().toList();
+
+    // When & Then
+    assertThatThrownBy(() -> userService.lookupUsers(ids, List.of()))
+        .isInstanceOf(InvalidInputException.class);
+
+    verify(userRepository, never()).findAllById(any());
+  }
+
+  @Test
+  @DisplayName("쓰기 지연 모드에서는 수정이 버퍼에 쌓이고 즉시 저장되지 않는다")
+  void updateUser_WriteBehind_BuffersInsteadOfSaving() {
+    // Given
+    Long userId = 1L;
+    User user = new User("홍길동", "hong@test.com", 25);
+    user.setId(userId);
+    User buffered = new User("홍길순", "hong@test.com", 26);
+    buffered.setId(userId);
+
+    when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+    when(userWriteBuffer.isEnabled()).thenReturn(true);
+    when(userWriteBuffer.overlay(user)).thenReturn(buffered);
+
+    // When
+    User result = userService.updateUser(userId, " 홍길순 ", 26);
+
+    // Then
+    assertThat(result.getName()).isEqualTo("홍길순");
+    assertThat(result.getAge()).isEqualTo(26);
+    verify(userWriteBuffer).buffer(userId, "홍길순", 26);
+    verify(userRepository, never()).save(any(User.class));
+    verify(eventPublisher, never()).publishEvent(any(Object.class));
+  }
+
+  @Test
+  @DisplayName("정지 기간이 끝난 사용자만 해제되고 재활성화 이벤트가 발행된다")
+  void expireSuspensions_ReactivatesOnlyExpiredUsers() {
+    // Given
+    LocalDateTime now = LocalDateTime.now();
+    User expired = new User("홍길동", "hong@test.com", 25);
+    expired.setId(1L);
+    expired.suspend(now.minusSeconds(1));
+    User extended = new User("김철수", "kim@test.com", 30);
+    extended.setId(2L);
+    extended.suspend(now.plusHours(1));
+
+    when(userRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(expired, extended));
+
+    // When
+    int result = userService.expireSuspensions(List.of(1L, 2L), now);
+
+    // Then
+    assertThat(result).isEqualTo(1);
+    assertThat(expired.getStatus()).isEqualTo(UserStatus.ACTIVE);
+    assertThat(expired.getSuspendedUntil()).isNull();
+    assertThat(extended.getStatus()).isEqualTo(UserStatus.SUSPENDED);
+    ArgumentCaptor<UserChangedEvent> captor = ArgumentCaptor.forClass(UserChangedEvent.class);
+    verify(eventPublisher).publishEvent(captor.capture());
+    assertThat(captor.getValue().getType()).isEqualTo(UserChangeType.REACTIVATED);
+    assertThat(captor.getValue().getUserId()).isEqualTo(1L);
+    // 이메일은 커밋 후 UserNotificationListener 가 보낸다
+    verify(emailService, never()).sendReactivationEmail(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("일괄 생성 시 이미 있거나 배치 안에서 겹치는 이메일만 중복 예외가 된다")
+  void createValidatedUsers_DuplicatesFailPerItem() {
+    // Given
+    User existing = new User("홍길동", "hong@test.com", 25);
+    User first = new User("김철수", "kim@test.com", 30);
+    User again = new User("김철수2", "kim@test.com", 31);
+
+    when(userRepository.findEmailsIn(List.of("hong@test.com", "kim@test.com", "kim@test.com")))
+        .thenReturn(List.of("hong@test.com"));
+    when(userRepository.save(first)).thenReturn(first);
+
+    // When
+    List<UserCreationResult> results = userService.createValidatedUsers(List.of(existing, first, again));
+
+    // Then
+    assertThat(results).extracting(UserCreationResult::isSuccess).containsExactly(false, true, false);
+    assertThat(results.get(0).getError())
+        .isInstanceOf(DuplicateEmailException.class)
+        .hasMessage("이미 존재하는 이메일입니다: hong@test.com");
+    assertThat(results.get(2).getError()).isInstanceOf(DuplicateEmailException.class);
+    verify(userRepository).findEmailsIn(anyList());
+    verify(userRepository, never()).existsByEmail(anyString());
+    verify(userRepository, times(1)).save(any(User.class));
+    // 환영 이메일은 커밋 후 파이프라인이 보낸다
+    verify(emailService, never()).sendWelcomeEmail(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("최근에 없었던 ID 는 DB 를 조회하지 않고 바로 예외가 발생한다")
+  void getUserById_CachedMiss_SkipsRepository() {
+    // Given
+    when(userMissCache.isMissingId(999L)).thenReturn(true);
+
+    // When & Then
+    assertThatThrownBy(() -> userService.getUserById(999L))
+        .isInstanceOf(UserNotFoundException.class)
+        .hasMessage("사용자를 찾을 수 없습니다. ID: 999");
+    verify(userRepository, never()).findById(anyLong());
+  }
+
+  @Test
+  @DisplayName("DB 에서 찾지 못한 이메일은 조회 전 세대와 함께 캐시에 기록한다")
+  void getUserByEmail_NotFound_MarksMiss() {
+    // Given
+    when(userMissCache.generation()).thenReturn(7L);
+    when(userRepository.findByEmail("none@test.com")).thenReturn(Optional.empty());
+
+    // When & Then
+    assertThatThrownBy(() -> userService.getUserByEmail(" none@test.com "))
+        .isInstanceOf(UserNotFoundException.class);
+    verify(userMissCache).markMissingEmail("none@test.com", 7L);
+  }
+
+  @Test
+  @DisplayName("사용자 생성 시 없는 사용자 캐시에서 새 사용자를 지운다")
+  void createUser_InvalidatesMissCache() {
+    // Given
+    User savedUser = new User("홍길동", "hong@test.com", 25);
+    savedUser.setId(1L);
+    when(emailService.isEmailValid("hong@test.com")).thenReturn(true);
+    when(userRepository.existsByEmail("hong@test.com")).thenReturn(false);
+    when(userRepository.save(any(User.class))).thenReturn(savedUser);
+
+    // When
+    userService.createUser("홍길동", "hong@test.com", 25);
+
+    // Then
+    verify(userMissCache).invalidate(savedUser);
+  }
+}
@@ -0,0 +1,145 @@
+package com.devstudy.testcodeprac.service;
+
+import com.devstudy.testcodeprac.config.exception.InvalidInputException;
+import com.devstudy.testcodeprac.domain.User;
+import com.devstudy.testcodeprac.domain.UserTombstone;
+import com.devstudy.testcodeprac.dto.UserChange;
+import com.devstudy.testcodeprac.dto.UserChangesResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(UserSyncService.class)
+@TestPropertySource(properties = "user.sync.max-tx-lag-ms=0")
+class UserSyncServiceTest {
+
+  private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private UserSyncService userSyncService;
+
+  @Test
+  @DisplayName("수정된 사용자와 삭제 톰스톤을 변경 순서대로 병합해 페이지 단위로 돌려준다")
+  void getChangesSince_MergesUsersAndTombstonesInOrder() {
+    // Given
+    User hong = persistUser("홍길동", "hong@test.com", BASE.plusMinutes(1));
+    User kim = persistUser("김철수", "kim@test.com", BASE.plusMinutes(3));
+    User lee = persistUser("이영희", "lee@test.com", BASE.plusMinutes(4));
+    persistTombstone(999L, "gone@test.com", BASE.plusMinutes(2));
+
+    // When
+    UserChangesResponse first = userSyncService.getChangesSince(null, 2);
+    UserChangesResponse second = userSyncService.getChangesSince(first.getNextCursor(), 2);
+    UserChangesResponse third = userSyncService.getChangesSince(second.getNextCursor(), 2);
+
+    // Then
+    assertThat(first.getChanges()).extracting(UserChange::getId).containsExactly(hong.getId(), 999L);
+    assertThat(first.getChanges()).extracting(UserChange::isDeleted).containsExactly(false, true);
+    assertThat(first.isHasMore()).isTrue();
+    assertThat(second.getChanges()).extracting(UserChange::getId).containsExactly(kim.getId(), lee.getId());
+    assertThat(second.isHasMore()).isFalse();
+    assertThat(third.getChanges()).isEmpty();
+    assertThat(third.getNextCursor()).isEqualTo(second.getNextCursor());
+  }
+
+  @Test
+  @DisplayName("같은 시각에 바뀐 행은 ID 순서로 이어서 돌려준다")
+  void getChangesSince_TiesBrokenById() {
+    // Given
+    User hong = persistUser("홍길동", "hong@test.com", BASE);
+    User kim = persistUser("김철수", "kim@test.com", BASE);
+
+    // When
+    UserChangesResponse first = userSyncService.getChangesSince(null, 1);
+    UserChangesResponse second = userSyncService.getChangesSince(first.getNextCursor(), 1);
+
+    // Then
+    assertThat(first.getChanges()).extracting(UserChange::getId).containsExactly(hong.getId());
+    assertThat(first.isHasMore()).isTrue();
+    assertThat(second.getChanges()).extracting(UserChange::getId).containsExactly(kim.getId());
+    assertThat(second.isHasMore()).isFalse();
+  }
+
+  @Test
+  @DisplayName("아직 커밋되지 않았을 수 있는 최근 변경은 다음 요청으로 미룬다")
+  void getChangesSince_ExcludesChangesWithinTxLag() {
+    // Given
+    User hong = persistUser("홍길동", "hong@test.com", BASE);
+    persistUser("김철수", "kim@test.com", LocalDateTime.now().plusHours(1));
+
+    // When
+    UserChangesResponse response = userSyncService.getChangesSince(null, 10);
+
+    // Then
+    assertThat(response.getChanges()).extracting(UserChange::getId).containsExactly(hong.getId());
+    assertThat(response.isHasMore()).isFalse();
+  }
+
+  @Test
+  @DisplayName("updated_at 이 없던 기존 사용자는 채워 넣은 뒤 동기화 대상이 된다")
+  void backfillUpdatedAt_IncludesLegacyRows() {
+    // Given
+    User legacy = persistUser("홍길동", "hong@test.com", null);
+    assertThat(userSyncService.getChangesSince(null, 10).getChanges()).isEmpty();
+
+    // When
+    userSyncService.backfillUpdatedAt();
+    entityManager.clear();
+
+    // Then
+    assertThat(userSyncService.getChangesSince(null, 10).getChanges())
+        .extracting(UserChange::getId).containsExactly(legacy.getId());
+  }
+
+  @Test
+  @DisplayName("커서는 인코딩 후 디코딩해도 같은 위치를 가리키고, 잘못된 커서는 거부한다")
+  void changeCursor_RoundTrip() {
+    // Given
+    ChangeCursor cursor = new ChangeCursor(BASE.plusNanos(123_456_000), 42L);
+
+    // When
+    ChangeCursor decoded = ChangeCursor.decode(cursor.encode());
+
+    // Then
+    assertThat(decoded.getChangedAt()).isEqualTo(cursor.getChangedAt());
+    assertThat(decoded.getUserId()).isEqualTo(42L);
+    assertThat(ChangeCursor.decode(null)).isSameAs(ChangeCursor.START);
+    assertThatThrownBy(() -> ChangeCursor.decode("not-a-cursor"))
+        .isInstanceOf(InvalidInputException.class);
+  }
+
+  private User persistUser(String name, String email, LocalDateTime updatedAt) {
+    User user = entityManager.persistAndFlush(new User(name, email, 25));
+    // @UpdateTimestamp 를 거치지 않도록 벌크 UPDATE 로 변경 시각을 고정한다
+    entityManager.getEntityManager()
+        .createQuery("UPDATE User u SET u.updatedAt = :updatedAt WHERE u.id = :id")
+        .setParameter("updatedAt", updatedAt)
+        .setParameter("id", user.getId())
+        .executeUpdate();
+    entityManager.clear();
+    return user;
+  }
+
+  private void persistTombstone(Long userId, String email, LocalDateTime deletedAt) {
+    UserTombstone tombstone = entityManager.persistAndFlush(new UserTombstone(userId, email));
+    entityManager.getEntityManager()
+        .createQuery("UPDATE UserTombstone t SET t.deletedAt = :deletedAt WHERE t.id = :id")
+        .setParameter("deletedAt", deletedAt)
+        .setParameter("id", tombstone.getId())
+        .executeUpdate();
+    entityManager.clear();
+  }
+}
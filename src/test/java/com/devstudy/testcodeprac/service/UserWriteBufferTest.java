@@ -0,0 +1,123 @@
+package com.devstudy.testcodeprac.service;
+
+import com.devstudy.testcodeprac.domain.User;
+import com.devstudy.testcodeprac.repository.UserBulkUpdateRepository.NameAgeUpdate;
+import com.devstudy.testcodeprac.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserWriteBufferTest {
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private UserWriteBuffer userWriteBuffer;
+
+  @BeforeEach
+  void setUp() {
+    userWriteBuffer = new UserWriteBuffer(userRepository, eventPublisher, transactionManager, true, 50);
+  }
+
+  @Test
+  @DisplayName("같은 사용자의 연속 수정은 나중 값이 우선하도록 하나로 합쳐서 반영된다")
+  void flush_CoalescesUpdatesPerUser() {
+    // Given
+    userWriteBuffer.buffer(1L, "홍길순", null);
+    userWriteBuffer.buffer(1L, null, 30);
+    userWriteBuffer.buffer(1L, "홍길동", null);
+    userWriteBuffer.buffer(2L, null, 40);
+
+    // When
+    userWriteBuffer.flush();
+
+    // Then
+    List<NameAgeUpdate> updates = captureUpdates(1).get(0);
+    assertThat(updates).containsExactlyInAnyOrder(
+        new NameAgeUpdate(1L, "홍길동", 30),
+        new NameAgeUpdate(2L, null, 40));
+    assertThat(userWriteBuffer.hasPending(1L)).isFalse();
+    assertThat(userWriteBuffer.hasPending(2L)).isFalse();
+  }
+
+  @Test
+  @DisplayName("반영에 실패한 수정은 다음 주기에 다시 시도하고, 그사이 들어온 수정이 우선한다")
+  void flush_Failure_RequeuesUpdates() {
+    // Given
+    userWriteBuffer.buffer(1L, "홍길순", 26);
+    when(userRepository.updateNamesAndAges(any(), any(LocalDateTime.class)))
+        .thenThrow(new DataAccessResourceFailureException("DB 연결 끊김"))
+        .thenReturn(new int[]{1});
+
+    // When
+    userWriteBuffer.flush();
+    boolean pendingAfterFailure = userWriteBuffer.hasPending(1L);
+    userWriteBuffer.buffer(1L, null, 27);
+    userWriteBuffer.flush();
+
+    // Then
+    assertThat(pendingAfterFailure).isTrue();
+    assertThat(captureUpdates(2).get(1)).containsExactly(new NameAgeUpdate(1L, "홍길순", 27));
+    assertThat(userWriteBuffer.hasPending(1L)).isFalse();
+  }
+
+  @Test
+  @DisplayName("반영 중인 수정도 조회 결과에 덮어써지고, 그사이 들어온 수정은 다음 주기에 반영된다")
+  void flush_InFlightUpdatesStayVisible() {
+    // Given
+    User user = new User("홍길동", "hong@test.com", 25);
+    user.setId(1L);
+    userWriteBuffer.buffer(1L, "홍길순", null);
+
+    List<User> seenDuringFlush = new ArrayList<>();
+    when(userRepository.updateNamesAndAges(any(), any(LocalDateTime.class))).thenAnswer(invocation -> {
+      seenDuringFlush.add(userWriteBuffer.overlay(user));
+      userWriteBuffer.buffer(1L, null, 26);
+      seenDuringFlush.add(userWriteBuffer.overlay(user));
+      return new int[]{1};
+    });
+
+    // When
+    userWriteBuffer.flush();
+
+    // Then
+    assertThat(seenDuringFlush).extracting(User::getName).containsExactly("홍길순", "홍길순");
+    assertThat(seenDuringFlush).extracting(User::getAge).containsExactly(25, 26);
+    assertThat(userWriteBuffer.hasPending(1L)).isTrue();
+    assertThat(user.getName()).isEqualTo("홍길동");
+
+    userWriteBuffer.flush();
+    assertThat(captureUpdates(2).get(1)).containsExactly(new NameAgeUpdate(1L, null, 26));
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<List<NameAgeUpdate>> captureUpdates(int calls) {
+    ArgumentCaptor<List<NameAgeUpdate>> captor = ArgumentCaptor.forClass(List.class);
+    verify(userRepository, times(calls)).updateNamesAndAges(captor.capture(), any(LocalDateTime.class));
+    return captor.getAllValues();
+  }
+}